@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.either;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.either.Either;
+import unf.either.Failure;
+
+/**
+ * {@link Either#catching} of a stackless {@link Failure} compared with a
+ * regular exception.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatchingBenchmark {
+
+  private String input;
+
+  @Setup
+  public void setup() {
+    input = "malformed";
+  }
+
+  @Benchmark
+  public Either<RuntimeException, Integer> exception() {
+    return Either.catching(() -> {
+      throw new IllegalArgumentException(input);
+    });
+  }
+
+  @Benchmark
+  public Either<RuntimeException, Integer> failure() {
+    return Either.catching(() -> {
+      throw new Failure(input);
+    });
+  }
+}
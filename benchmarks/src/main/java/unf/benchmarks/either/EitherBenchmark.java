@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.either;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+import unf.function.Function1;
+
+/**
+ * {@link Either#mapRight} and {@link Either#flatMapRight} on both
+ * {@link Left} and {@link Right}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EitherBenchmark {
+
+  private Either<String, Integer> left;
+  private Either<String, Integer> right;
+  private Function1<Integer, Integer> enrich;
+  private Function1<Integer, Either<String, Integer>> validate;
+
+  @Setup
+  public void setup() {
+    left = new Left<>("error");
+    right = new Right<>(42);
+    enrich = x -> x * 2;
+    validate = x -> x >= 0 ? new Right<>(x) : new Left<>("negative");
+  }
+
+  @Benchmark
+  public Either<String, Integer> leftMapRight() {
+    return left.mapRight(enrich);
+  }
+
+  @Benchmark
+  public Either<String, Integer> rightMapRight() {
+    return right.mapRight(enrich);
+  }
+
+  @Benchmark
+  public Either<String, Integer> leftFlatMapRight() {
+    return left.flatMapRight(validate);
+  }
+
+  @Benchmark
+  public Either<String, Integer> rightFlatMapRight() {
+    return right.flatMapRight(validate);
+  }
+
+  @Benchmark
+  public Either<String, Integer> leftChain() {
+    return left.flatMapRight(validate).mapRight(enrich);
+  }
+
+  @Benchmark
+  public Either<String, Integer> rightChain() {
+    return right.flatMapRight(validate).mapRight(enrich);
+  }
+}
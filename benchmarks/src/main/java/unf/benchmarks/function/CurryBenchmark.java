@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.function;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function1;
+import unf.function.Function2;
+import unf.function.Function3;
+import unf.function.Function4;
+import unf.function.Tuple4;
+
+/**
+ * Application of a {@link Function4} after {@code uncurry}.
+ *
+ * <p>{@link Function4#uncurry} returns a {@link Function4} (or a partial
+ * application of one) as-is, so the call depth stays the same however many
+ * curry/uncurry round trips it went through. Uncurried nested lambdas are
+ * measured as a baseline, as are a direct call, a reused partial application
+ * and the tupled form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurryBenchmark {
+
+  @Param({"1", "4", "16"})
+  public int roundTrips;
+
+  private Function4<Integer, Integer, Integer, Integer, Integer> f;
+  private Function4<Integer, Integer, Integer, Integer, Integer> uncurried;
+  private Function4<Integer, Integer, Integer, Integer, Integer> uncurriedLambdas;
+  private Function3<Integer, Integer, Integer, Integer> uncurriedPartial;
+  private Function2<Integer, Integer, Integer> partial;
+  private Function1<Tuple4<Integer, Integer, Integer, Integer>, Integer> tupled;
+  private Integer a;
+  private Integer b;
+  private Integer c;
+  private Integer d;
+
+  @Setup
+  public void setup() {
+    f = (p0, p1, p2, p3) -> p0 + p1 + p2 + p3;
+    uncurried = f;
+    for (int i = 0; i < roundTrips; i++) {
+      final Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>
+          curried = uncurried;
+      uncurried = Function4.uncurry(curried);
+    }
+    final Function1<Integer, Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>>
+        lambdas = p0 -> p1 -> p2 -> p3 -> p0 + p1 + p2 + p3;
+    uncurriedLambdas = Function4.uncurry(lambdas);
+    a = 1;
+    b = 2;
+    c = 3;
+    d = 4;
+    final Function1<Integer, Function1<Integer, Function1<Integer, Integer>>>
+        curriedPartial = f.apply(a);
+    uncurriedPartial = Function3.uncurry(curriedPartial);
+    partial = f.apply(a, b);
+    tupled = Function4.tupled(f);
+  }
+
+  @Benchmark
+  public Integer direct() {
+    return f.apply(a, b, c, d);
+  }
+
+  @Benchmark
+  public Integer uncurried() {
+    return uncurried.apply(a, b, c, d);
+  }
+
+  @Benchmark
+  public Integer uncurriedLambdas() {
+    return uncurriedLambdas.apply(a, b, c, d);
+  }
+
+  @Benchmark
+  public Integer uncurriedPartial() {
+    return uncurriedPartial.apply(b, c, d);
+  }
+
+  @Benchmark
+  public Integer reusedPartial() {
+    return partial.apply(c, d);
+  }
+
+  @Benchmark
+  public Integer tupled() {
+    return tupled.apply(new Tuple4<>(a, b, c, d));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.function;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function1;
+import unf.function.Pipeline;
+
+/**
+ * Chains of {@link Function1#compose} and {@link Function1#then} of
+ * increasing length, nested (default) or flattened in a {@link Pipeline}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Function1Benchmark {
+
+  @Param({"1", "4", "16", "64", "256"})
+  public int length;
+
+  private Function1<Integer, Integer> composed;
+  private Function1<Integer, Integer> chained;
+  private Function1<Integer, Integer> pipeline;
+  private Function1<Integer, Integer> increment;
+  private Integer input;
+
+  @Setup
+  public void setup() {
+    increment = x -> x + 1;
+    Function1<Integer, Integer> c = increment;
+    Function1<Integer, Integer> t = increment;
+    Function1<Integer, Integer> p = Pipeline.of(increment);
+    for (int i = 1; i < length; i++) {
+      c = c.compose(increment);
+      t = t.then(increment);
+      p = p.then(increment);
+    }
+    composed = c;
+    chained = t;
+    pipeline = p;
+    input = 0;
+  }
+
+  @Benchmark
+  public Integer compose() {
+    return composed.apply(input);
+  }
+
+  @Benchmark
+  public Integer then() {
+    return chained.apply(input);
+  }
+
+  @Benchmark
+  public Integer pipeline() {
+    return pipeline.apply(input);
+  }
+
+  @Benchmark
+  public Function1<Integer, Integer> buildThen() {
+    return composed.then(chained);
+  }
+
+  @Benchmark
+  public Function1<Integer, Integer> buildPipeline() {
+    Function1<Integer, Integer> p = Pipeline.identity();
+    for (int i = 0; i < length; i++) {
+      p = p.then(increment);
+    }
+    return p;
+  }
+}
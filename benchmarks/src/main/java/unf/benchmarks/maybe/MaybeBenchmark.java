@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.maybe;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function0;
+import unf.function.Function1;
+import unf.maybe.Just;
+import unf.maybe.Maybe;
+import unf.maybe.Nothing;
+
+/**
+ * {@link Maybe#map}, {@link Maybe#flatMap} and {@link Maybe#fold} on both
+ * {@link Just} and {@link Nothing}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaybeBenchmark {
+
+  private Maybe<String> just;
+  private Maybe<String> nothing;
+  private Function1<String, Integer> length;
+  private Function1<String, Maybe<Integer>> parse;
+  private Function1<Integer, Integer> increment;
+  private Function0<Integer> fallback;
+
+  @Setup
+  public void setup() {
+    just = new Just<>("12345");
+    nothing = Maybe.nothing();
+    length = String::length;
+    parse = s -> s.isEmpty() ? Maybe.nothing() : new Just<>(s.length());
+    increment = x -> x + 1;
+    fallback = () -> -1;
+  }
+
+  @Benchmark
+  public Maybe<Integer> justMap() {
+    return just.map(length);
+  }
+
+  @Benchmark
+  public Maybe<Integer> nothingMap() {
+    return nothing.map(length);
+  }
+
+  @Benchmark
+  public Maybe<Integer> justFlatMap() {
+    return just.flatMap(parse);
+  }
+
+  @Benchmark
+  public Maybe<Integer> nothingFlatMap() {
+    return nothing.flatMap(parse);
+  }
+
+  @Benchmark
+  public Maybe<Integer> nothingChain() {
+    return nothing.flatMap(parse).map(increment);
+  }
+
+  @Benchmark
+  public Integer justFold() {
+    return just.fold(length, fallback);
+  }
+
+  @Benchmark
+  public Integer nothingFold() {
+    return nothing.fold(length, fallback);
+  }
+}
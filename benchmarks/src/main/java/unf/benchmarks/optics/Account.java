@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import unf.optics.RecordOptics;
+
+/**
+ * Record with hand-written withers to compare against the generated optics.
+ */
+@RecordOptics
+public record Account(String id, String owner, long balance, boolean active) {
+
+  public Account withBalance(long newBalance) {
+    return new Account(id, owner, newBalance, active);
+  }
+
+  public Account withOwner(String newOwner) {
+    return new Account(id, newOwner, balance, active);
+  }
+}
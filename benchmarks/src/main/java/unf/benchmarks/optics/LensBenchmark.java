@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function1;
+import unf.optics.Lens;
+
+/**
+ * {@link Lens#view}, {@link Lens#over} and {@link Lens#set} through chains of
+ * {@link Lens#focus} of increasing depth, nested (default) or flattened by
+ * {@link Lens#compile()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LensBenchmark {
+
+  @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+  public int depth;
+
+  private Node source;
+  private Lens<Node, Node, Integer, Integer> lens;
+  private Lens<Node, Node, Integer, Integer> compiled;
+  private Function1<Integer, Integer> increment;
+  private Integer newValue;
+
+  @Setup
+  public void setup() {
+    source = Node.chain(depth);
+    Lens<Node, Node, Integer, Integer> l = NodeOptics.value;
+    for (int i = 1; i < depth; i++) {
+      l = NodeOptics.next.focus(l);
+    }
+    lens = l;
+    compiled = l.compile();
+    increment = x -> x + 1;
+    newValue = 42;
+  }
+
+  @Benchmark
+  public Integer view() {
+    return lens.view(source);
+  }
+
+  @Benchmark
+  public Node over() {
+    return lens.over(increment, source);
+  }
+
+  @Benchmark
+  public Node set() {
+    return lens.set(newValue, source);
+  }
+
+  @Benchmark
+  public Integer viewCompiled() {
+    return compiled.view(source);
+  }
+
+  @Benchmark
+  public Node overCompiled() {
+    return compiled.over(increment, source);
+  }
+
+  @Benchmark
+  public Node setCompiled() {
+    return compiled.set(newValue, source);
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import unf.optics.RecordOptics;
+
+/**
+ * Linked structure used to build lens chains of arbitrary depth.
+ */
+@RecordOptics
+public record Node(int value, Node next) {
+
+  /**
+   * Build a chain of {@code depth} nodes.
+   */
+  public static Node chain(int depth) {
+    Node node = null;
+    for (int i = 0; i < depth; i++) {
+      node = new Node(i, node);
+    }
+    return node;
+  }
+}
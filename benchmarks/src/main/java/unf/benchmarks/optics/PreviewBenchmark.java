@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+import unf.maybe.Just;
+import unf.maybe.Maybe;
+import unf.optics.AffineFold;
+import unf.optics.Prism;
+
+/**
+ * {@link Prism#preview}, {@link AffineFold#previewOrElse} and
+ * {@link Prism#matching} through a {@link Prism#focus} chain, compared with
+ * nesting {@link Maybe#flatMap}.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreviewBenchmark {
+
+  private Prism<Maybe<Maybe<Maybe<Integer>>>, Maybe<Maybe<Maybe<Integer>>>, Integer, Integer> composed;
+  private Prism<Maybe<Maybe<Maybe<Integer>>>, Maybe<Maybe<Maybe<Integer>>>, Maybe<Maybe<Integer>>, Maybe<Maybe<Integer>>> outer;
+  private Prism<Maybe<Maybe<Integer>>, Maybe<Maybe<Integer>>, Maybe<Integer>, Maybe<Integer>> middle;
+  private Prism<Maybe<Integer>, Maybe<Integer>, Integer, Integer> inner;
+  private Maybe<Maybe<Maybe<Integer>>> source;
+  private Integer fallback;
+
+  private static <A> Prism<Maybe<A>, Maybe<A>, A, A> justPrism() {
+    return new Prism<>() {
+      @Override
+      public Either<Maybe<A>, A> matching(Maybe<A> source) {
+        return source.fold(Right::new, () -> new Left<>(source));
+      }
+
+      @Override
+      public Maybe<A> preview(Maybe<A> source) {
+        return source;
+      }
+
+      @Override
+      public Maybe<A> review(A value) {
+        return new Just<>(value);
+      }
+    };
+  }
+
+  @Setup
+  public void setup() {
+    outer = justPrism();
+    middle = justPrism();
+    inner = justPrism();
+    composed = outer.focus(middle).focus(inner);
+    source = new Just<>(new Just<>(new Just<>(42)));
+    fallback = 0;
+  }
+
+  @Benchmark
+  public Maybe<Integer> preview() {
+    return composed.preview(source);
+  }
+
+  @Benchmark
+  public Integer previewOrElse() {
+    return composed.previewOrElse(fallback, source);
+  }
+
+  @Benchmark
+  public Either<Maybe<Maybe<Maybe<Integer>>>, Integer> matching() {
+    return composed.matching(source);
+  }
+
+  @Benchmark
+  public Maybe<Integer> previewFlatMap() {
+    return outer.preview(source)
+        .flatMap(middle::preview)
+        .flatMap(inner::preview);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function1;
+import unf.optics.Lens;
+import unf.optics.RecordOpticsRuntime;
+
+/**
+ * Generated {@code *Optics} lenses compared with hand-written record withers
+ * and with lenses created at runtime by {@link RecordOpticsRuntime}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordOpticsBenchmark {
+
+  // Constants, like the generated lenses, so that the JIT can inline them
+  private static final Lens<Account, Account, Long, Long> RUNTIME_BALANCE
+      = RecordOpticsRuntime.lens(Account.class, "balance", Long.class);
+  private static final Lens<Account, Account, String, String> RUNTIME_OWNER
+      = RecordOpticsRuntime.lens(Account.class, "owner", String.class);
+
+  private Account account;
+  private Function1<Long, Long> deposit;
+  private long amount;
+  private String owner;
+
+  @Setup
+  public void setup() {
+    account = new Account("id-0", "owner-0", 1_000L, true);
+    amount = 10L;
+    deposit = x -> x + amount;
+    owner = "owner-1";
+  }
+
+  @Benchmark
+  public long viewGenerated() {
+    return AccountOptics.balance.view(account);
+  }
+
+  @Benchmark
+  public long viewGeneratedPrimitive() {
+    return AccountOptics.balance.viewLong(account);
+  }
+
+  @Benchmark
+  public long viewRuntime() {
+    return RUNTIME_BALANCE.view(account);
+  }
+
+  @Benchmark
+  public long viewAccessor() {
+    return account.balance();
+  }
+
+  @Benchmark
+  public Account overGenerated() {
+    return AccountOptics.balance.over(deposit, account);
+  }
+
+  @Benchmark
+  public Account overGeneratedPrimitive() {
+    return AccountOptics.balance.overLong(x -> x + amount, account);
+  }
+
+  @Benchmark
+  public Account overRuntime() {
+    return RUNTIME_BALANCE.over(deposit, account);
+  }
+
+  @Benchmark
+  public Account overWither() {
+    return account.withBalance(account.balance() + amount);
+  }
+
+  @Benchmark
+  public Account setGenerated() {
+    return AccountOptics.owner.set(owner, account);
+  }
+
+  @Benchmark
+  public Account setRuntime() {
+    return RUNTIME_OWNER.set(owner, account);
+  }
+
+  @Benchmark
+  public Account lookupRuntime() {
+    return RecordOpticsRuntime.<Account, String>lens(Account.class, "owner")
+        .set(owner, account);
+  }
+
+  @Benchmark
+  public Account setWither() {
+    return account.withOwner(owner);
+  }
+
+  @Benchmark
+  public Account setTwoGenerated() {
+    return AccountOptics.owner.set(owner,
+        AccountOptics.balance.setLong(account.balance() + amount, account));
+  }
+
+  @Benchmark
+  public Account setTwoWith() {
+    return AccountOptics.with(account)
+        .owner(owner)
+        .balance(account.balance() + amount)
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.benchmarks.optics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import unf.function.Function1;
+import unf.optics.Ref;
+import unf.optics.RefMap;
+
+/**
+ * Contended updates of a {@link Ref} through a lens, compared with
+ * {@link AtomicReference#updateAndGet} and with a {@link RefMap} partitioned
+ * by key.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RefBenchmark {
+
+  private static final int KEYS = 64;
+
+  private Ref<Account> ref;
+  private AtomicReference<Account> atomic;
+  private RefMap<Integer, Account> map;
+  private Account initial;
+  private Function1<Long, Long> deposit;
+
+  @Setup
+  public void setup() {
+    initial = new Account("id-0", "owner-0", 0L, true);
+    ref = Ref.of(initial);
+    atomic = new AtomicReference<>(initial);
+    map = new RefMap<>();
+    deposit = x -> x + 1;
+  }
+
+  @Benchmark
+  public Account refUpdate() {
+    return ref.update(AccountOptics.balance, deposit);
+  }
+
+  @Benchmark
+  public Account atomicUpdateAndGet() {
+    return atomic.updateAndGet(s -> AccountOptics.balance.over(deposit, s));
+  }
+
+  @Benchmark
+  public Account refMapUpdate() {
+    final int key = (int) (Thread.currentThread().threadId() % KEYS);
+    return map.update(key, initial, AccountOptics.balance, deposit);
+  }
+}
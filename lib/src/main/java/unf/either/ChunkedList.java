@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list made of the concatenation of two other lists.
+ *
+ * <p>Concatenation takes constant time and does not copy any element: the
+ * chunks are only flattened into a single array the first time an element is
+ * accessed. This avoids the quadratic copying caused by repeatedly
+ * concatenating lists when accumulating errors.
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+  private final List<E> head;
+  private final List<E> tail;
+  private final int size;
+  private volatile Object[] flat;
+
+  private ChunkedList(List<E> head, List<E> tail) {
+    super();
+    this.head = head;
+    this.tail = tail;
+    this.size = head.size() + tail.size();
+  }
+
+  /**
+   * Concatenate two lists.
+   */
+  /* package */ static <E> List<E> concat(List<E> head, List<E> tail) {
+    if (tail.isEmpty()) {
+      return head;
+    } else if (head.isEmpty()) {
+      return tail;
+    } else {
+      return new ChunkedList<>(head, tail);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    return (E) flatten()[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private Object[] flatten() {
+    Object[] result = flat;
+    if (result == null) {
+      result = new Object[size];
+      int i = 0;
+      // Iterative traversal: chains built by folding can be very deep
+      final Deque<List<E>> stack = new ArrayDeque<>();
+      stack.push(this);
+      while (!stack.isEmpty()) {
+        final List<E> chunk = stack.pop();
+        if (chunk instanceof ChunkedList<E> node && node.flat == null) {
+          stack.push(node.tail);
+          stack.push(node.head);
+        } else {
+          for (final E it : chunk) {
+            result[i] = it;
+            i++;
+          }
+        }
+      }
+      flat = result;
+    }
+    return result;
+  }
+}
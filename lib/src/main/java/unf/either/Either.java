@@ -6,8 +6,15 @@
 
 package unf.either;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
+import unf.function.Function0;
 import unf.function.Function1;
+import unf.maybe.Maybe;
 
 /**
  * The Either type represents values with two possibilities.
@@ -80,4 +87,226 @@ public sealed interface Either<L, R>
    * value if this either is right.
    */
   Stream<R> streamRight();
+
+  /**
+   * Obtain the value of this right either or a fallback.
+   *
+   * @return Returns the value of this either if it is a right or the result
+   * of the given fallback function (which can be a {@link unf.function.Lazy}
+   * value) if it is a left.
+   */
+  default R orElseGet(Function0<R> fallback) {
+    return fold($ -> fallback.apply(), Function1.identity());
+  }
+
+  /**
+   * Create an either from an option.
+   *
+   * @param left Function that produces the left value (which can be a
+   *             {@link unf.function.Lazy} value). It is only applied if the
+   *             option is empty.
+   * @return Returns a right with the value of the option if it is non-empty,
+   * otherwise a left with the value produced by the given function.
+   */
+  static <L, R> Either<L, R> fromMaybe(Maybe<R> maybe, Function0<L> left) {
+    return maybe.fold(Right::new, () -> new Left<>(left.apply()));
+  }
+
+  /**
+   * Evaluate a function capturing any thrown exception.
+   *
+   * <p>Expected failures can be signalled cheaply by throwing a stackless
+   * {@link Failure}.
+   *
+   * @return A right with the value returned by the function or a left with
+   * the exception thrown by it.
+   */
+  @SuppressWarnings("PMD.AvoidCatchingGenericException")
+  static <R> Either<RuntimeException, R> catching(Function0<R> f) {
+    try {
+      return new Right<>(f.apply());
+    } catch (RuntimeException e) {
+      return new Left<>(e);
+    }
+  }
+
+  /**
+   * Evaluate a function capturing thrown exceptions of the given type.
+   *
+   * <p>Exceptions of other types are propagated.
+   *
+   * @return A right with the value returned by the function or a left with
+   * the exception of the given type thrown by it.
+   */
+  @SuppressWarnings("PMD.AvoidCatchingGenericException")
+  static <X extends RuntimeException, R> Either<X, R> catching(
+      Class<X> type,
+      Function0<R> f
+  ) {
+    try {
+      return new Right<>(f.apply());
+    } catch (RuntimeException e) {
+      if (type.isInstance(e)) {
+        return new Left<>(type.cast(e));
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Wrap a function so that it captures any thrown exception.
+   *
+   * @see #catching(Function0)
+   */
+  @SuppressWarnings("PMD.AvoidCatchingGenericException")
+  static <A, R> Function1<A, Either<RuntimeException, R>> catching(
+      Function1<A, R> f
+  ) {
+    return a -> {
+      try {
+        return new Right<>(f.apply(a));
+      } catch (RuntimeException e) {
+        return new Left<>(e);
+      }
+    };
+  }
+
+  /**
+   * Apply a function to each value and collect the right results.
+   *
+   * <p>Stops at the first value for which the function returns a left.
+   *
+   * @return Returns a right containing the list of the results if the function
+   * produced a right for every element or the first left otherwise.
+   */
+  @SuppressWarnings("unchecked")
+  static <L, A, B> Either<L, List<B>> traverse(
+      Iterable<A> values,
+      Function1<A, Either<L, B>> f
+  ) {
+    final List<B> result = values instanceof Collection<?> c
+        ? new ArrayList<>(c.size())
+        : new ArrayList<>();
+    for (final A value : values) {
+      final Either<L, B> either = f.apply(value);
+      if (!(either instanceof Right<L, B>(B b))) {
+        // The right type is phantom in a left
+        return (Either<L, List<B>>) either;
+      }
+      result.add(b);
+    }
+    return new Right<>(Collections.unmodifiableList(result));
+  }
+
+  /**
+   * Apply a function to each value and collect the right results.
+   *
+   * @see #traverse(Iterable, Function1)
+   */
+  static <L, A, B> Either<L, List<B>> traverse(
+      A[] values,
+      Function1<A, Either<L, B>> f
+  ) {
+    return traverse(Arrays.asList(values), f);
+  }
+
+  /**
+   * Collect the values of the given eithers.
+   *
+   * @return Returns a right containing the list of the right values if all the
+   * given eithers are rights or the first left otherwise.
+   */
+  static <L, R> Either<L, List<R>> sequence(Iterable<Either<L, R>> values) {
+    return traverse(values, Function1.identity());
+  }
+
+  /**
+   * Collect the values of the given eithers.
+   *
+   * @see #sequence(Iterable)
+   */
+  static <L, R> Either<L, List<R>> sequence(Either<L, R>[] values) {
+    return traverse(Arrays.asList(values), Function1.identity());
+  }
+
+  /**
+   * Collect the values of the lefts.
+   *
+   * @see EitherCollectors#lefts()
+   */
+  static <L, R> List<L> lefts(Iterable<Either<L, R>> values) {
+    final List<L> result = new ArrayList<>();
+    for (final Either<L, R> it : values) {
+      if (it instanceof Left<L, R>(L value)) {
+        result.add(value);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Collect the values of the rights.
+   *
+   * @see EitherCollectors#rights()
+   */
+  static <L, R> List<R> rights(Iterable<Either<L, R>> values) {
+    final List<R> result = new ArrayList<>();
+    for (final Either<L, R> it : values) {
+      if (it instanceof Right<L, R>(R value)) {
+        result.add(value);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Collect the values of lefts and rights separately in a single pass.
+   *
+   * <p>When the values are a {@link Collection}, both lists share a single
+   * array sized after the collection: lefts are stored from its start and
+   * rights from its end.
+   *
+   * @see EitherCollectors#partition()
+   */
+  @SuppressWarnings("unchecked")
+  static <L, R> Partition<L, R> partition(Iterable<Either<L, R>> values) {
+    if (!(values instanceof Collection<Either<L, R>> collection)) {
+      final List<L> lefts = new ArrayList<>();
+      final List<R> rights = new ArrayList<>();
+      for (final Either<L, R> it : values) {
+        switch (it) {
+          case Left<L, R>(L value) -> lefts.add(value);
+          case Right<L, R>(R value) -> rights.add(value);
+        }
+      }
+      return new Partition<>(
+          Collections.unmodifiableList(lefts),
+          Collections.unmodifiableList(rights)
+      );
+    }
+
+    final Object[] buffer = new Object[collection.size()];
+    int leftsEnd = 0;
+    int rightsStart = buffer.length;
+    for (final Either<L, R> it : collection) {
+      switch (it) {
+        case Left<L, R>(L value) -> {
+          buffer[leftsEnd] = value;
+          leftsEnd++;
+        }
+        case Right<L, R>(R value) -> {
+          rightsStart--;
+          buffer[rightsStart] = value;
+        }
+      }
+    }
+    final List<Object> all = Arrays.asList(buffer);
+    final List<Object> rights = all.subList(rightsStart, buffer.length);
+    // Rights were stored backwards
+    Collections.reverse(rights);
+    return new Partition<>(
+        (List<L>) Collections.unmodifiableList(all.subList(0, leftsEnd)),
+        (List<R>) Collections.unmodifiableList(rights)
+    );
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s for streams of {@link Either}s (and {@link Validation}s)
+ * that do not need to produce an intermediate stream for each element.
+ *
+ * <p>All collectors support parallel streams and preserve encounter order.
+ */
+public final class EitherCollectors {
+
+  private EitherCollectors() {
+  }
+
+  /**
+   * Collect the values of the lefts.
+   */
+  public static <L, R> Collector<Either<L, R>, ?, List<L>> lefts() {
+    return Collector.of(
+        ArrayList::new,
+        (List<L> acc, Either<L, R> it) -> {
+          if (it instanceof Left<L, R>(L value)) {
+            acc.add(value);
+          }
+        },
+        EitherCollectors::concat,
+        Collections::unmodifiableList
+    );
+  }
+
+  /**
+   * Collect the values of the rights.
+   */
+  public static <L, R> Collector<Either<L, R>, ?, List<R>> rights() {
+    return Collector.of(
+        ArrayList::new,
+        (List<R> acc, Either<L, R> it) -> {
+          if (it instanceof Right<L, R>(R value)) {
+            acc.add(value);
+          }
+        },
+        EitherCollectors::concat,
+        Collections::unmodifiableList
+    );
+  }
+
+  /**
+   * Collect the values of lefts and rights separately in a single pass.
+   */
+  public static <L, R> Collector<Either<L, R>, ?, Partition<L, R>> partition() {
+    return Collector.of(
+        () -> new Partition<L, R>(new ArrayList<>(), new ArrayList<>()),
+        (Partition<L, R> acc, Either<L, R> it) -> {
+          switch (it) {
+            case Left<L, R>(L value) -> acc.lefts().add(value);
+            case Right<L, R>(R value) -> acc.rights().add(value);
+          }
+        },
+        (a, b) -> new Partition<>(
+            concat(a.lefts(), b.lefts()),
+            concat(a.rights(), b.rights())
+        ),
+        acc -> new Partition<>(
+            Collections.unmodifiableList(acc.lefts()),
+            Collections.unmodifiableList(acc.rights())
+        )
+    );
+  }
+
+  /**
+   * Collect validations accumulating the errors of all the invalid ones.
+   *
+   * <p>Partial results of parallel streams are merged without copying the
+   * accumulated errors.
+   *
+   * @see Validation#sequence(Iterable)
+   */
+  public static <E, A> Collector<Validation<E, A>, ?, Validation<E, List<A>>> sequenceValidations() {
+    return Collector.of(
+        ValidationAccumulator<E, A>::new,
+        ValidationAccumulator::add,
+        ValidationAccumulator::merge,
+        ValidationAccumulator::finish
+    );
+  }
+
+  private static <T> List<T> concat(List<T> a, List<T> b) {
+    a.addAll(b);
+    return a;
+  }
+
+  private static final class ValidationAccumulator<E, A> {
+
+    private final List<A> values = new ArrayList<>();
+    private List<E> errors = List.of();
+
+    /* package */ void add(Validation<E, A> it) {
+      switch (it) {
+        case Valid<E, A>(A value) -> values.add(value);
+        case Invalid<E, A>(List<E> e) -> errors = ChunkedList.concat(errors, e);
+      }
+    }
+
+    /* package */ ValidationAccumulator<E, A> merge(
+        ValidationAccumulator<E, A> other
+    ) {
+      values.addAll(other.values);
+      errors = ChunkedList.concat(errors, other.errors);
+      return this;
+    }
+
+    /* package */ Validation<E, List<A>> finish() {
+      return errors.isEmpty()
+          ? new Valid<>(Collections.unmodifiableList(values))
+          : new Invalid<>(errors);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.io.Serial;
+
+/**
+ * A stackless exception for expected failures.
+ *
+ * <p>A Failure does not capture a stack trace nor suppressed exceptions when
+ * created, which makes it cheap enough to signal expected failures (such as
+ * malformed input) as values, for example in a {@link Left} or through
+ * {@link Either#catching(unf.function.Function0)}. Since it is immutable, an instance can
+ * also be safely reused.
+ *
+ * <p>Can be extended to define more specific failures.
+ */
+public class Failure extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Create a new failure with the given message.
+   */
+  public Failure(String message) {
+    super(message, null, false, false);
+  }
+
+  /**
+   * Create a new failure with the given message and cause.
+   */
+  public Failure(String message, Throwable cause) {
+    super(message, cause, false, false);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.ArrayList;
+import java.util.List;
+import unf.function.Function1;
+
+/**
+ * An invalid {@link Validation} with a non-empty list of errors.
+ */
+public record Invalid<E, A>(List<E> errors) implements Validation<E, A> {
+
+  /**
+   * Default constructor.
+   *
+   * <p>The given list is copied, so later changes to it do not affect this
+   * validation.
+   *
+   * @throws IllegalArgumentException If the given list of errors is empty.
+   * @throws NullPointerException     If any of the given errors is null.
+   */
+  public Invalid {
+    if (errors.isEmpty()) {
+      throw new IllegalArgumentException("An invalid validation needs errors");
+    }
+    // Chunked lists are only made of the (immutable) errors of other invalid
+    // validations: copying them would undo the chunking
+    if (!(errors instanceof ChunkedList<E>)) {
+      errors = List.copyOf(errors);
+    }
+  }
+
+  /**
+   * Produce an invalid validation with a single error.
+   */
+  public static <E, A> Invalid<E, A> of(E error) {
+    return new Invalid<>(List.of(error));
+  }
+
+  @Override
+  public boolean isValid() {
+    return false;
+  }
+
+  @Override
+  public <T> T fold(Function1<List<E>, T> invalidCase, Function1<A, T> validCase) {
+    return invalidCase.apply(errors);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Validation<E, T> map(Function1<A, T> mapper) {
+    // A is a phantom type in an invalid validation: no need to reallocate
+    return (Validation<E, T>) this;
+  }
+
+  @Override
+  public <T> Validation<T, A> mapErrors(Function1<E, T> mapper) {
+    final List<T> newErrors = new ArrayList<>(errors.size());
+    for (final E it : errors) {
+      newErrors.add(mapper.apply(it));
+    }
+    return new Invalid<>(newErrors);
+  }
+
+  @Override
+  public Either<List<E>, A> toEither() {
+    return new Left<>(errors);
+  }
+}
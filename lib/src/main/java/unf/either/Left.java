@@ -25,8 +25,10 @@ public record Left<L, R>(L value) implements Either<L, R> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Either<L, T> mapRight(Function1<R, T> mapper) {
-    return new Left<>(value);
+    // R is a phantom type in a left: no need to reallocate
+    return (Either<L, T>) this;
   }
 
   @Override
@@ -35,8 +37,9 @@ public record Left<L, R>(L value) implements Either<L, R> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Either<L, T> flatMapRight(Function1<R, Either<L, T>> mapper) {
-    return new Left<>(value);
+    return (Either<L, T>) this;
   }
 
   @Override
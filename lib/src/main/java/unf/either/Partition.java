@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.List;
+
+/**
+ * The values of a group of {@link Either}s, separated by side.
+ *
+ * @param lefts  Values of the lefts, in encounter order.
+ * @param rights Values of the rights, in encounter order.
+ * @see Either#partition(Iterable)
+ * @see EitherCollectors#partition()
+ */
+public record Partition<L, R>(List<L> lefts, List<R> rights) {
+}
@@ -20,8 +20,10 @@ public record Right<L, R>(R value) implements Either<L, R> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Either<T, R> mapLeft(Function1<L, T> mapper) {
-    return new Right<>(value);
+    // L is a phantom type in a right: no need to reallocate
+    return (Either<T, R>) this;
   }
 
   @Override
@@ -30,8 +32,9 @@ public record Right<L, R>(R value) implements Either<L, R> {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <T> Either<T, R> flatMapLeft(Function1<L, Either<T, R>> mapper) {
-    return new Right<>(value);
+    return (Either<T, R>) this;
   }
 
   @Override
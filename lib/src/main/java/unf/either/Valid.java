@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.List;
+import unf.function.Function1;
+
+/**
+ * A valid {@link Validation}.
+ */
+public record Valid<E, A>(A value) implements Validation<E, A> {
+
+  @Override
+  public boolean isValid() {
+    return true;
+  }
+
+  @Override
+  public <T> T fold(Function1<List<E>, T> invalidCase, Function1<A, T> validCase) {
+    return validCase.apply(value);
+  }
+
+  @Override
+  public <T> Validation<E, T> map(Function1<A, T> mapper) {
+    return new Valid<>(mapper.apply(value));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Validation<T, A> mapErrors(Function1<E, T> mapper) {
+    // E is a phantom type in a valid validation: no need to reallocate
+    return (Validation<T, A>) this;
+  }
+
+  @Override
+  public Either<List<E>, A> toEither() {
+    return new Right<>(value);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import unf.function.Function1;
+import unf.function.Function2;
+import unf.function.Function3;
+import unf.function.Function4;
+
+/**
+ * The Validation type represents a value that is either valid or a non-empty
+ * list of errors.
+ *
+ * <p>Unlike {@link Either}, which stops at the first {@link Left},
+ * combining validations accumulates the errors of all the invalid values.
+ * Errors are accumulated without copying: concatenation of the error lists
+ * takes constant time.
+ *
+ * @param <E> Type of the errors
+ * @param <A> Type of the valid value
+ */
+public sealed interface Validation<E, A>
+    permits Invalid, Valid {
+
+  /**
+   * Return whether this validation is valid.
+   */
+  boolean isValid();
+
+  /**
+   * Apply a function to produce a value depending on whether this validation
+   * is invalid or valid.
+   *
+   * @return Returns the result of the application of the appropriate function.
+   */
+  <T> T fold(Function1<List<E>, T> invalidCase, Function1<A, T> validCase);
+
+  /**
+   * Apply a function to the value of this validation.
+   *
+   * @return Returns a validation containing the result of applying f to this
+   * validation's value if this validation is valid.
+   */
+  <T> Validation<E, T> map(Function1<A, T> mapper);
+
+  /**
+   * Apply a function to each of the errors of this validation.
+   *
+   * @return Returns a validation containing the result of applying f to each
+   * of the errors of this validation if this validation is invalid.
+   */
+  <T> Validation<T, A> mapErrors(Function1<E, T> mapper);
+
+  /**
+   * Convert to an {@link Either}.
+   *
+   * @return A left with the errors if this validation is invalid or a right
+   * with the value if this validation is valid.
+   */
+  Either<List<E>, A> toEither();
+
+  /**
+   * Convert an {@link Either} into a validation.
+   *
+   * @return An invalid validation with a single error if the given either is
+   * a left or a valid validation if the given either is a right.
+   */
+  static <E, A> Validation<E, A> fromEither(Either<E, A> either) {
+    return either.fold(Invalid::of, Valid::new);
+  }
+
+  /**
+   * Combine two validations.
+   *
+   * @return Returns a valid validation with the result of applying f to the
+   * values of all the given validations if all of them are valid or an
+   * invalid validation with the errors of all the invalid ones otherwise.
+   */
+  static <E, A, B, R> Validation<E, R> combine(
+      Validation<E, A> v0,
+      Validation<E, B> v1,
+      Function2<A, B, R> f
+  ) {
+    if (v0 instanceof Valid<E, A>(A a) && v1 instanceof Valid<E, B>(B b)) {
+      return new Valid<>(f.apply(a, b));
+    }
+    return new Invalid<>(errors(v0, v1));
+  }
+
+  /**
+   * Combine three validations.
+   *
+   * @see #combine(Validation, Validation, Function2)
+   */
+  static <E, A, B, C, R> Validation<E, R> combine(
+      Validation<E, A> v0,
+      Validation<E, B> v1,
+      Validation<E, C> v2,
+      Function3<A, B, C, R> f
+  ) {
+    return combine(
+        combine(v0, v1, (a, b) -> f.apply(a, b)),
+        v2,
+        Function1::apply
+    );
+  }
+
+  /**
+   * Combine four validations.
+   *
+   * @see #combine(Validation, Validation, Function2)
+   */
+  static <E, A, B, C, D, R> Validation<E, R> combine(
+      Validation<E, A> v0,
+      Validation<E, B> v1,
+      Validation<E, C> v2,
+      Validation<E, D> v3,
+      Function4<A, B, C, D, R> f
+  ) {
+    return combine(
+        combine(v0, v1, v2, (a, b, c) -> f.apply(a, b, c)),
+        v3,
+        Function1::apply
+    );
+  }
+
+  /**
+   * Collect the values of the given validations.
+   *
+   * @return Returns a valid validation with the list of all the values if all
+   * the given validations are valid or an invalid validation with the errors
+   * of all the invalid ones otherwise.
+   */
+  static <E, A> Validation<E, List<A>> sequence(
+      Iterable<Validation<E, A>> values
+  ) {
+    final List<A> result = values instanceof Collection<?> c
+        ? new ArrayList<>(c.size())
+        : new ArrayList<>();
+    List<E> errors = List.of();
+    for (final Validation<E, A> it : values) {
+      switch (it) {
+        case Valid<E, A>(A value) -> result.add(value);
+        case Invalid<E, A>(List<E> e) -> errors = ChunkedList.concat(errors, e);
+      }
+    }
+    return errors.isEmpty()
+        ? new Valid<>(Collections.unmodifiableList(result))
+        : new Invalid<>(errors);
+  }
+
+  /**
+   * Concatenate the errors of the given validations.
+   */
+  @SafeVarargs
+  private static <E> List<E> errors(Validation<E, ?>... validations) {
+    List<E> errors = List.of();
+    for (final Validation<E, ?> it : validations) {
+      if (it instanceof Invalid<E, ?>(List<E> e)) {
+        errors = ChunkedList.concat(errors, e);
+      }
+    }
+    return errors;
+  }
+}
@@ -15,8 +15,13 @@
  * used to hold an error value and the {@code Right} constructor is used to hold
  * a correct value (mnemonic: "right" also means "correct").</p>
  *
+ * <p>The {@code Validation} type is similar to {@code Either}, but it
+ * accumulates all the errors when combining values instead of stopping at the
+ * first one.</p>
+ *
  * @see unf.either.Either
  * @see unf.either.Left
  * @see unf.either.Right
+ * @see unf.either.Validation
  */
 package unf.either;
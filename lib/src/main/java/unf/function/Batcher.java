@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Function that groups concurrent calls into calls of a bulk function.
+ *
+ * <p>The first caller of a batch waits up to a given delay for other callers
+ * to join it, then invokes the bulk function on behalf of all of them. A batch
+ * is dispatched earlier by the caller that fills it. No background thread is
+ * used.
+ *
+ * <p>A {@link ReentrantLock} is used rather than {@code synchronized} so that
+ * waiting virtual threads do not pin their carrier.
+ *
+ * @see Function1#batched
+ */
+/* package */ final class Batcher<K, V> implements Function1<K, V> {
+
+  private final Function1<List<K>, List<V>> bulk;
+  private final int batchSize;
+  private final long maxDelayNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition dispatched = lock.newCondition();
+  private Map<K, CompletableFuture<V>> pending;
+
+  /* package */ Batcher(
+      Function1<List<K>, List<V>> bulk,
+      int batchSize,
+      long maxDelayNanos
+  ) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException(
+          "batchSize must be positive: " + batchSize);
+    }
+    if (maxDelayNanos < 0) {
+      throw new IllegalArgumentException("maxDelay must not be negative");
+    }
+    this.bulk = bulk;
+    this.batchSize = batchSize;
+    this.maxDelayNanos = maxDelayNanos;
+  }
+
+  @Override
+  public V apply(K key) {
+    final CompletableFuture<V> result;
+    Map<K, CompletableFuture<V>> toDispatch = null;
+    lock.lock();
+    try {
+      final boolean leader = pending == null;
+      if (leader) {
+        pending = new LinkedHashMap<>();
+      }
+      final Map<K, CompletableFuture<V>> batch = pending;
+      // Duplicate keys in the same batch share the same result
+      result = batch.computeIfAbsent(key, k -> new CompletableFuture<>());
+      if (batch.size() >= batchSize) {
+        toDispatch = take();
+      } else if (leader) {
+        awaitOthers(batch);
+        if (pending == batch) {
+          toDispatch = take();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (toDispatch != null) {
+      dispatch(toDispatch);
+    }
+    return join(result);
+  }
+
+  /**
+   * Wait until the given batch is dispatched by another caller or the maximum
+   * delay elapses.
+   */
+  private void awaitOthers(Map<K, CompletableFuture<V>> batch) {
+    long nanos = maxDelayNanos;
+    try {
+      while (pending == batch && nanos > 0L) {
+        nanos = dispatched.awaitNanos(nanos);
+      }
+    } catch (InterruptedException e) {
+      // Stop waiting and dispatch right away
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Map<K, CompletableFuture<V>> take() {
+    final Map<K, CompletableFuture<V>> batch = pending;
+    pending = null;
+    dispatched.signalAll();
+    return batch;
+  }
+
+  @SuppressWarnings("PMD.AvoidCatchingGenericException")
+  private void dispatch(Map<K, CompletableFuture<V>> batch) {
+    final List<K> keys = new ArrayList<>(batch.keySet());
+    final List<V> values;
+    try {
+      values = bulk.apply(keys);
+    } catch (RuntimeException | Error e) {
+      for (final CompletableFuture<V> it : batch.values()) {
+        it.completeExceptionally(e);
+      }
+      throw e;
+    }
+    if (values.size() != keys.size()) {
+      final IllegalStateException e = new IllegalStateException(
+          "Bulk function returned " + values.size() + " values for "
+              + keys.size() + " keys");
+      for (final CompletableFuture<V> it : batch.values()) {
+        it.completeExceptionally(e);
+      }
+      throw e;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      batch.get(keys.get(i)).complete(values.get(i));
+    }
+  }
+
+  private static <V> V join(CompletableFuture<V> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException re) {
+        throw re;
+      } else if (cause instanceof Error err) {
+        throw err;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+
+/**
+ * Application of a {@link Function1} to all the values of a list, possibly in
+ * parallel according to a {@link Parallelism} strategy.
+ *
+ * <p>Results are stored in a list of the same size as the input, in the
+ * original order, regardless of the order in which they were computed.
+ */
+public final class Bulk {
+
+  private Bulk() {
+  }
+
+  /**
+   * Apply a function to all the given values capturing any thrown exception.
+   *
+   * @return An unmodifiable list containing, for each value in the original
+   * order, a right with the result of the function or a left with the
+   * exception it threw.
+   * @see Either#catching(Function1)
+   */
+  public static <A, B> List<Either<RuntimeException, B>> mapAll(
+      List<A> values,
+      Function1<A, B> f,
+      Parallelism parallelism
+  ) {
+    final Function1<A, Either<RuntimeException, B>> g = Either.catching(f);
+    final Object[] results = run(values.toArray(), g, false, parallelism);
+    return asList(results);
+  }
+
+  /**
+   * Apply a function to all the given values and collect the right results.
+   *
+   * <p>Stops at the first left produced by the function: no more applications
+   * are started once a left has been produced, but the ones already running
+   * are completed.
+   *
+   * @return Returns a right containing an unmodifiable list of the results in
+   * the original order if the function produced a right for every element or
+   * a left otherwise. When running in parallel more than one left may have
+   * been produced before stopping: the one of the first value in the original
+   * order is returned.
+   * @see Either#traverse(Iterable, Function1)
+   */
+  @SuppressWarnings("unchecked")
+  public static <L, A, B> Either<L, List<B>> traverse(
+      List<A> values,
+      Function1<A, Either<L, B>> f,
+      Parallelism parallelism
+  ) {
+    final Object[] results = run(values.toArray(), f, true, parallelism);
+    for (int i = 0; i < results.length; i++) {
+      final Either<L, B> it = (Either<L, B>) results[i];
+      if (it instanceof Right<L, B>(B value)) {
+        results[i] = value;
+      } else if (it instanceof Left<L, B>) {
+        // B is a phantom type in a left: no need to reallocate
+        return (Either<L, List<B>>) (Either<L, ?>) it;
+      }
+    }
+    return new Right<>(asList(results));
+  }
+
+  /**
+   * Unmodifiable list view of an array of results.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> asList(Object[] results) {
+    return (List<T>) Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  /**
+   * Apply a function to the given values, replacing them with the results.
+   *
+   * @param stopOnLeft Whether to stop starting applications after a left has
+   *                   been produced. Skipped values are replaced with null.
+   */
+  @SuppressWarnings("unchecked")
+  private static <A, R> Object[] run(
+      Object[] values,
+      Function1<A, ? extends Either<?, ?>> f,
+      boolean stopOnLeft,
+      Parallelism parallelism
+  ) {
+    final Task<A> task = new Task<>(values, f, stopOnLeft);
+    switch (parallelism) {
+      case Parallelism.Sequential ignored -> task.apply(0, values.length);
+      case Parallelism.CpuBound(ForkJoinPool pool) -> {
+        final int chunk = Math.max(1,
+            values.length / (pool.getParallelism() * 4));
+        pool.invoke(new Split<>(task, 0, values.length, chunk));
+      }
+      case Parallelism.Blocking(int maxConcurrency) ->
+          runBlocking(task, maxConcurrency);
+    }
+    return values;
+  }
+
+  @SuppressWarnings("PMD.AvoidCatchingGenericException")
+  private static <A> void runBlocking(Task<A> task, int maxConcurrency) {
+    final Semaphore permits = new Semaphore(maxConcurrency);
+    final AtomicReference<Throwable> thrown = new AtomicReference<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < task.values.length && !task.stopped(); i++) {
+        try {
+          permits.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          executor.shutdownNow();
+          throw new CancellationException("Interrupted");
+        }
+        final int index = i;
+        executor.execute(() -> {
+          try {
+            task.apply(index, index + 1);
+          } catch (RuntimeException | Error t) {
+            // Propagated to the calling thread, stop starting new applications
+            thrown.compareAndSet(null, t);
+            task.stop();
+          } finally {
+            permits.release();
+          }
+        });
+      }
+    }
+    final Throwable t = thrown.get();
+    if (t instanceof RuntimeException e) {
+      throw e;
+    } else if (t instanceof Error e) {
+      throw e;
+    }
+  }
+
+  /**
+   * Applies a function to a range of values in place.
+   */
+  private static final class Task<A> {
+
+    private final Object[] values;
+    private final Function1<A, ? extends Either<?, ?>> f;
+    private final boolean stopOnLeft;
+    private volatile boolean stopped;
+
+    private Task(
+        Object[] values,
+        Function1<A, ? extends Either<?, ?>> f,
+        boolean stopOnLeft
+    ) {
+      this.values = values;
+      this.f = f;
+      this.stopOnLeft = stopOnLeft;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(int from, int to) {
+      for (int i = from; i < to; i++) {
+        if (stopped) {
+          // Not computed: clear the input
+          Arrays.fill(values, i, to, null);
+          return;
+        }
+        final Either<?, ?> result = f.apply((A) values[i]);
+        values[i] = result;
+        if (stopOnLeft && result instanceof Left<?, ?>) {
+          stopped = true;
+        }
+      }
+    }
+
+    private boolean stopped() {
+      return stopped;
+    }
+
+    private void stop() {
+      stopped = true;
+    }
+  }
+
+  /**
+   * Recursively splits a range of values among the threads of a
+   * {@link ForkJoinPool}.
+   */
+  private static final class Split<A> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Task<A> task;
+    private final int from;
+    private final int to;
+    private final int chunk;
+
+    private Split(Task<A> task, int from, int to, int chunk) {
+      this.task = task;
+      this.from = from;
+      this.to = to;
+      this.chunk = chunk;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunk || task.stopped()) {
+        task.apply(from, to);
+      } else {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new Split<>(task, from, mid, chunk),
+            new Split<>(task, mid, to, chunk));
+      }
+    }
+  }
+}
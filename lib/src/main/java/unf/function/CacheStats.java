@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Snapshot of the counters of a {@link MemoCache}.
+ *
+ * @param hits      Number of lookups that found a cached value.
+ * @param misses    Number of lookups that had to compute the value.
+ * @param evictions Number of entries removed because the cache was full or
+ *                  because they expired.
+ */
+public record CacheStats(long hits, long misses, long evictions) {
+
+  /**
+   * Ratio of lookups that found a cached value, or {@code 1.0} if there has
+   * been no lookup.
+   */
+  public double hitRate() {
+    final long total = hits + misses;
+    return total == 0 ? 1.0 : (double) hits / total;
+  }
+}
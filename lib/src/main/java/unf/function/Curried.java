@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Partially applied functions.
+ *
+ * <p>Each partial application keeps a reference to the original function and
+ * to all the arguments applied so far, so that applying the remaining
+ * arguments invokes the original function directly regardless of how many
+ * steps were taken to get there.
+ *
+ * <p>This avoids nesting closures, not allocating: every partial application
+ * is a new record, so each step of a one-argument-at-a-time application still
+ * allocates one object.
+ */
+/* package */ final class Curried {
+
+  private Curried() {
+  }
+
+  /* package */ record Two1<A, B, C>(Function2<A, B, C> f, A p0)
+      implements Function1<B, C> {
+
+    @Override
+    public C apply(B p1) {
+      return f.apply(p0, p1);
+    }
+  }
+
+  /* package */ record Three1<A, B, C, D>(Function3<A, B, C, D> f, A p0)
+      implements Function2<B, C, D> {
+
+    @Override
+    public D apply(B p1, C p2) {
+      return f.apply(p0, p1, p2);
+    }
+
+    @Override
+    public Function1<C, D> apply(B p1) {
+      return new Three2<>(f, p0, p1);
+    }
+  }
+
+  /* package */ record Three2<A, B, C, D>(Function3<A, B, C, D> f, A p0, B p1)
+      implements Function1<C, D> {
+
+    @Override
+    public D apply(C p2) {
+      return f.apply(p0, p1, p2);
+    }
+  }
+
+  /* package */ record Four1<A, B, C, D, E>(Function4<A, B, C, D, E> f, A p0)
+      implements Function3<B, C, D, E> {
+
+    @Override
+    public E apply(B p1, C p2, D p3) {
+      return f.apply(p0, p1, p2, p3);
+    }
+
+    @Override
+    public Function2<C, D, E> apply(B p1) {
+      return new Four2<>(f, p0, p1);
+    }
+
+    @Override
+    public Function1<D, E> apply(B p1, C p2) {
+      return new Four3<>(f, p0, p1, p2);
+    }
+  }
+
+  /* package */ record Four2<A, B, C, D, E>(
+      Function4<A, B, C, D, E> f,
+      A p0,
+      B p1
+  ) implements Function2<C, D, E> {
+
+    @Override
+    public E apply(C p2, D p3) {
+      return f.apply(p0, p1, p2, p3);
+    }
+
+    @Override
+    public Function1<D, E> apply(C p2) {
+      return new Four3<>(f, p0, p1, p2);
+    }
+  }
+
+  /* package */ record Four3<A, B, C, D, E>(
+      Function4<A, B, C, D, E> f,
+      A p0,
+      B p1,
+      C p2
+  ) implements Function1<D, E> {
+
+    @Override
+    public E apply(D p3) {
+      return f.apply(p0, p1, p2, p3);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes two {@code double} arguments and returns a
+ * {@code double}.
+ *
+ * <p>This is the {@code double} specialization of {@link Function2} for
+ * functions whose arguments and result have the same type.
+ */
+@FunctionalInterface
+public interface DoubleBinaryFunction2 {
+
+  double applyAsDouble(double p0, double p1);
+}
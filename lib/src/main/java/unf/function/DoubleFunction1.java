@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one {@code double} argument.
+ *
+ * <p>This is the {@code double}-consuming specialization of {@link Function1}.
+ *
+ * @param <B> Type of the value returned by the function.
+ */
+@FunctionalInterface
+public interface DoubleFunction1<B> {
+
+  B apply(double p0);
+}
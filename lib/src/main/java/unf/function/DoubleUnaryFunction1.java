@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one {@code double} argument and returns a
+ * {@code double}.
+ *
+ * <p>This is the {@code double} specialization of {@link Function1} for
+ * functions whose argument and result have the same type.
+ */
+@FunctionalInterface
+public interface DoubleUnaryFunction1 {
+
+  double applyAsDouble(double p0);
+
+  /**
+   * Returns a function that always returns its input argument.
+   */
+  static DoubleUnaryFunction1 identity() {
+    return x -> x;
+  }
+}
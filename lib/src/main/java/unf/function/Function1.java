@@ -6,6 +6,8 @@
 
 package unf.function;
 
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Function object that takes one argument.
@@ -35,4 +37,41 @@ public interface Function1<A, B> {
   static <T> Function1<T, T> identity() {
     return x -> x;
   }
+
+  /**
+   * Memoize a pure function in the given cache.
+   *
+   * @see MemoCache
+   */
+  static <A, B> Function1<A, B> memoize(Function1<A, B> f, MemoCache<A, B> cache) {
+    return p0 -> cache.get(p0, f);
+  }
+
+  /**
+   * Group concurrent calls into calls of a bulk function.
+   *
+   * <p>Calls made concurrently (for example from many virtual threads) are
+   * collected in batches of at most {@code batchSize} distinct keys: the
+   * bulk function is invoked once per batch, by one of the callers, and each
+   * caller receives the value at the position of its key. Calls with the
+   * same key in the same batch share the result. A batch is dispatched once
+   * it is full or after {@code maxDelay} since its first call.
+   *
+   * <p>Exceptions thrown by the bulk function are rethrown to all the callers
+   * of the batch.
+   *
+   * @param bulk      Function that returns a list of values, one for each of
+   *                  the given distinct keys, in the same order.
+   * @param batchSize Maximum number of distinct keys of a bulk call.
+   * @param maxDelay  Maximum time a call waits for others to join its batch.
+   * @throws IllegalArgumentException If batchSize is not positive or maxDelay
+   *                                  is negative.
+   */
+  static <K, V> Function1<K, V> batched(
+      Function1<List<K>, List<V>> bulk,
+      int batchSize,
+      Duration maxDelay
+  ) {
+    return new Batcher<>(bulk, batchSize, maxDelay.toNanos());
+  }
 }
@@ -21,13 +21,53 @@ public interface Function2<A, B, C>
 
   @Override
   default Function1<B, C> apply(A p0) {
-    return p1 -> apply(p0, p1);
+    return new Curried.Two1<>(this, p0);
   }
 
   /**
-   * @hidden
+   * Memoize a pure function in the given cache, using the tuple of its
+   * arguments as key.
+   *
+   * @see MemoCache
+   */
+  static <A, B, C> Function2<A, B, C> memoize(
+      Function2<A, B, C> f,
+      MemoCache<Tuple2<A, B>, C> cache
+  ) {
+    final Function1<Tuple2<A, B>, C> loader = tupled(f);
+    return (p0, p1) -> cache.get(new Tuple2<>(p0, p1), loader);
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as a
+   * tuple.
+   */
+  static <A, B, C> Function1<Tuple2<A, B>, C> tupled(
+      Function2<A, B, C> f
+  ) {
+    return t -> f.apply(t.first(), t.second());
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as
+   * separate arguments.
+   */
+  static <A, B, C> Function2<A, B, C> untupled(Function1<Tuple2<A, B>, C> f) {
+    return (p0, p1) -> f.apply(new Tuple2<>(p0, p1));
+  }
+
+  /**
+   * Returns a function that takes all the arguments of the given curried
+   * function at once.
+   *
+   * <p>If the given function already is a {@link Function2} (including the
+   * partial applications of functions with more arguments), it is returned
+   * as-is.
    */
   static <A, B, C> Function2<A, B, C> uncurry(Function1<A, Function1<B, C>> f) {
+    if (f instanceof Function2<A, B, C> f2) {
+      return f2;
+    }
     return (p0, p1) -> f.apply(p0).apply(p1);
   }
 }
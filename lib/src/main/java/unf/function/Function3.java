@@ -20,15 +20,62 @@ public interface Function3<A, B, C, D>
 
   D apply(A p0, B p1, C p2);
 
+  @Override
+  default Function2<B, C, D> apply(A p0) {
+    return new Curried.Three1<>(this, p0);
+  }
+
   @Override
   default Function1<C, D> apply(A p0, B p1) {
-    return p2 -> apply(p0, p1, p2);
+    return new Curried.Three2<>(this, p0, p1);
+  }
+
+  /**
+   * Memoize a pure function in the given cache, using the tuple of its
+   * arguments as key.
+   *
+   * @see MemoCache
+   */
+  static <A, B, C, D> Function3<A, B, C, D> memoize(
+      Function3<A, B, C, D> f,
+      MemoCache<Tuple3<A, B, C>, D> cache
+  ) {
+    final Function1<Tuple3<A, B, C>, D> loader = tupled(f);
+    return (p0, p1, p2) -> cache.get(new Tuple3<>(p0, p1, p2), loader);
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as a
+   * tuple.
+   */
+  static <A, B, C, D> Function1<Tuple3<A, B, C>, D> tupled(
+      Function3<A, B, C, D> f
+  ) {
+    return t -> f.apply(t.first(), t.second(), t.third());
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as
+   * separate arguments.
+   */
+  static <A, B, C, D> Function3<A, B, C, D> untupled(
+      Function1<Tuple3<A, B, C>, D> f
+  ) {
+    return (p0, p1, p2) -> f.apply(new Tuple3<>(p0, p1, p2));
   }
 
   /**
-   * @hidden
+   * Returns a function that takes all the arguments of the given curried
+   * function at once.
+   *
+   * <p>If the given function already is a {@link Function3} (including the
+   * partial applications of functions with more arguments), it is returned
+   * as-is.
    */
   static <A, B, C, D> Function3<A, B, C, D> uncurry(Function1<A, Function1<B, Function1<C, D>>> f) {
+    if (f instanceof Function3<A, B, C, D> f3) {
+      return f3;
+    }
     return (p0, p1, p2) -> f.apply(p0).apply(p1).apply(p2);
   }
 }
@@ -21,15 +21,66 @@ public interface Function4<A, B, C, D, E>
 
   E apply(A p0, B p1, C p2, D p3);
 
+  @Override
+  default Function3<B, C, D, E> apply(A p0) {
+    return new Curried.Four1<>(this, p0);
+  }
+
+  @Override
+  default Function2<C, D, E> apply(A p0, B p1) {
+    return new Curried.Four2<>(this, p0, p1);
+  }
+
   @Override
   default Function1<D, E> apply(A p0, B p1, C p2) {
-    return p3 -> apply(p0, p1, p2, p3);
+    return new Curried.Four3<>(this, p0, p1, p2);
+  }
+
+  /**
+   * Memoize a pure function in the given cache, using the tuple of its
+   * arguments as key.
+   *
+   * @see MemoCache
+   */
+  static <A, B, C, D, E> Function4<A, B, C, D, E> memoize(
+      Function4<A, B, C, D, E> f,
+      MemoCache<Tuple4<A, B, C, D>, E> cache
+  ) {
+    final Function1<Tuple4<A, B, C, D>, E> loader = tupled(f);
+    return (p0, p1, p2, p3) -> cache.get(new Tuple4<>(p0, p1, p2, p3), loader);
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as a
+   * tuple.
+   */
+  static <A, B, C, D, E> Function1<Tuple4<A, B, C, D>, E> tupled(
+      Function4<A, B, C, D, E> f
+  ) {
+    return t -> f.apply(t.first(), t.second(), t.third(), t.fourth());
+  }
+
+  /**
+   * Returns a function that takes the arguments of the given function as
+   * separate arguments.
+   */
+  static <A, B, C, D, E> Function4<A, B, C, D, E> untupled(
+      Function1<Tuple4<A, B, C, D>, E> f
+  ) {
+    return (p0, p1, p2, p3) -> f.apply(new Tuple4<>(p0, p1, p2, p3));
   }
 
   /**
-   * @hidden
+   * Returns a function that takes all the arguments of the given curried
+   * function at once.
+   *
+   * <p>If the given function already is a {@link Function4}, it is returned
+   * as-is.
    */
   static <A, B, C, D, E> Function4<A, B, C, D, E> uncurry(Function1<A, Function1<B, Function1<C, Function1<D, E>>>> f) {
+    if (f instanceof Function4<A, B, C, D, E> f4) {
+      return f4;
+    }
     return (p0, p1, p2, p3) -> f.apply(p0).apply(p1).apply(p2).apply(p3);
   }
 }
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes two {@code int} arguments and returns a
+ * {@code int}.
+ *
+ * <p>This is the {@code int} specialization of {@link Function2} for
+ * functions whose arguments and result have the same type.
+ */
+@FunctionalInterface
+public interface IntBinaryFunction2 {
+
+  int applyAsInt(int p0, int p1);
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one {@code int} argument and returns a
+ * {@code int}.
+ *
+ * <p>This is the {@code int} specialization of {@link Function1} for
+ * functions whose argument and result have the same type.
+ */
+@FunctionalInterface
+public interface IntUnaryFunction1 {
+
+  int applyAsInt(int p0);
+
+  /**
+   * Returns a function that always returns its input argument.
+   */
+  static IntUnaryFunction1 identity() {
+    return x -> x;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A memoized {@link Function0} that computes its value at most once, on first
+ * access.
+ *
+ * <p>Safe to share between threads: when several threads race on the first
+ * access only one of them computes the value while the others wait for it.
+ * Once the value has been computed, reading it only takes a volatile read and
+ * never a lock. A {@link ReentrantLock} is used rather than
+ * {@code synchronized} so that a virtual thread computing the value does not
+ * pin its carrier thread.
+ *
+ * <p>If the computation throws, the exception is propagated and the value will
+ * be computed again on the next access.
+ *
+ * <p>Being a {@link Function0}, a lazy value can be used wherever a deferred
+ * value is expected, for example as the default of
+ * {@link unf.maybe.Maybe#fold}, {@link unf.maybe.Maybe#orElseGet} and
+ * {@link unf.either.Either#orElseGet}, or as the left value of
+ * {@link unf.either.Either#fromMaybe}: the value is computed only if needed,
+ * and only once even if it is shared by many options or eithers.
+ *
+ * @param <A> Type of the value.
+ */
+public final class Lazy<A> implements Function0<A> {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Function0<A> supplier;
+  // The default (false) means "not computed", so that a lazy value published
+  // through a data race computes its value rather than returning null
+  private volatile boolean evaluated;
+  private A value;
+
+  private Lazy(Function0<A> supplier) {
+    this.supplier = supplier;
+  }
+
+  /**
+   * Create a lazy value from a function.
+   *
+   * @return The given function if it is already lazy, otherwise a new lazy
+   * value computed by the given function.
+   */
+  public static <A> Lazy<A> of(Function0<A> supplier) {
+    return supplier instanceof Lazy<A> lazy
+        ? lazy
+        : new Lazy<>(supplier);
+  }
+
+  /**
+   * Create a lazy value that has already been computed.
+   */
+  public static <A> Lazy<A> value(A value) {
+    // If it is published through a data race, evaluated may be seen as false:
+    // the supplier then yields the same value
+    final Lazy<A> lazy = new Lazy<>(() -> value);
+    lazy.value = value;
+    // Volatile write after value: publishes it
+    lazy.evaluated = true;
+    return lazy;
+  }
+
+  @Override
+  public A apply() {
+    // The volatile read of evaluated publishes value (written before it)
+    if (!evaluated) {
+      lock.lock();
+      try {
+        if (!evaluated) {
+          value = supplier.apply();
+          evaluated = true;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Return whether the value has already been computed.
+   */
+  public boolean isEvaluated() {
+    return evaluated;
+  }
+
+  /**
+   * Lazily apply a function to this value.
+   *
+   * @return A lazy value that applies the given function to the value of
+   * this lazy value when accessed.
+   */
+  public <B> Lazy<B> map(Function1<? super A, ? extends B> f) {
+    return new Lazy<>(() -> f.apply(apply()));
+  }
+
+  /**
+   * Lazily apply a function producing a lazy value to this value.
+   */
+  public <B> Lazy<B> flatMap(Function1<? super A, Lazy<B>> f) {
+    return new Lazy<>(() -> f.apply(apply()).apply());
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes two {@code long} arguments and returns a
+ * {@code long}.
+ *
+ * <p>This is the {@code long} specialization of {@link Function2} for
+ * functions whose arguments and result have the same type.
+ */
+@FunctionalInterface
+public interface LongBinaryFunction2 {
+
+  long applyAsLong(long p0, long p1);
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one {@code long} argument.
+ *
+ * <p>This is the {@code long}-consuming specialization of {@link Function1}.
+ *
+ * @param <B> Type of the value returned by the function.
+ */
+@FunctionalInterface
+public interface LongFunction1<B> {
+
+  B apply(long p0);
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one {@code long} argument and returns a
+ * {@code long}.
+ *
+ * <p>This is the {@code long} specialization of {@link Function1} for
+ * functions whose argument and result have the same type.
+ */
+@FunctionalInterface
+public interface LongUnaryFunction1 {
+
+  long applyAsLong(long p0);
+
+  /**
+   * Returns a function that always returns its input argument.
+   */
+  static LongUnaryFunction1 identity() {
+    return x -> x;
+  }
+}
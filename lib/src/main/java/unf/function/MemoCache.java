@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache for memoizing pure functions.
+ *
+ * <p>Lookups never take a lock: values are read from a
+ * {@link ConcurrentHashMap} and counters are {@link LongAdder}s. When the
+ * cache grows past its maximum size, entries are evicted in insertion order
+ * giving a second chance to the ones that have been read since they were
+ * inserted (an approximation of least-recently-used eviction). Entries can
+ * optionally expire a fixed amount of time after they have been written.
+ *
+ * <p>Concurrent lookups of a missing key may compute its value more than once:
+ * this is harmless for pure functions and avoids blocking readers.
+ *
+ * <p>A cache should only be used to memoize a single function.
+ *
+ * @param <K> Type of the keys (the tupled arguments of functions with more
+ *            than one parameter).
+ * @param <V> Type of the values.
+ * @see Function1#memoize(Function1, MemoCache)
+ * @see Function2#memoize(Function2, MemoCache)
+ * @see Function3#memoize(Function3, MemoCache)
+ * @see Function4#memoize(Function4, MemoCache)
+ */
+public final class MemoCache<K, V> {
+
+  /**
+   * Key used in place of {@code null}, which is not supported by
+   * {@link ConcurrentHashMap}.
+   */
+  private static final Object NULL_KEY = new Object();
+
+  private final ConcurrentHashMap<Object, Entry<V>> map;
+  private final Queue<Entry<V>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicLong queued = new AtomicLong();
+  private final long maximumSize;
+  private final long expireAfterWriteNanos;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Create a cache holding at most {@code maximumSize} entries that never
+   * expire.
+   *
+   * @throws IllegalArgumentException If maximumSize is not positive.
+   */
+  public MemoCache(long maximumSize) {
+    this(maximumSize, Duration.ZERO);
+  }
+
+  /**
+   * Create a cache holding at most {@code maximumSize} entries that expire
+   * after the given amount of time since they have been written.
+   *
+   * @param expireAfterWrite Time to live of an entry, or {@link Duration#ZERO}
+   *                         for entries that never expire.
+   * @throws IllegalArgumentException If maximumSize is not positive or
+   *                                  expireAfterWrite is negative.
+   */
+  public MemoCache(long maximumSize, Duration expireAfterWrite) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    if (expireAfterWrite.isNegative()) {
+      throw new IllegalArgumentException("expireAfterWrite must not be negative");
+    }
+    this.maximumSize = maximumSize;
+    this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+    this.map = new ConcurrentHashMap<>(
+        (int) Math.min(maximumSize, 1 << 16)
+    );
+  }
+
+  /**
+   * Return a snapshot of the counters of this cache.
+   */
+  public CacheStats stats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * Return the number of entries currently in the cache.
+   */
+  public long size() {
+    return map.mappingCount();
+  }
+
+  /**
+   * Remove all entries from the cache.
+   */
+  public void clear() {
+    map.clear();
+    insertionOrder.clear();
+    queued.set(0);
+  }
+
+  /**
+   * Get the value cached for a key or compute it using the loader.
+   */
+  /* package */ V get(K key, Function1<K, V> loader) {
+    final Object mapKey = key == null ? NULL_KEY : key;
+    final Entry<V> cached = map.get(mapKey);
+    if (cached != null) {
+      if (!isExpired(cached)) {
+        // Write only if needed: concurrent hits of a hot key would otherwise
+        // keep invalidating the cache line of the entry
+        if (!cached.referenced) {
+          cached.referenced = true;
+        }
+        hits.increment();
+        return cached.value;
+      } else if (map.remove(mapKey, cached)) {
+        evictions.increment();
+      }
+    }
+
+    misses.increment();
+    final V value = loader.apply(key);
+    final Entry<V> entry = new Entry<>(
+        mapKey,
+        value,
+        expireAfterWriteNanos == 0 ? 0 : System.nanoTime()
+    );
+    final Entry<V> previous = map.putIfAbsent(mapKey, entry);
+    if (previous == null) {
+      enqueue(entry);
+      evictIfNeeded();
+    }
+    return value;
+  }
+
+  private boolean isExpired(Entry<V> entry) {
+    return expireAfterWriteNanos != 0
+        && System.nanoTime() - entry.writeTime >= expireAfterWriteNanos;
+  }
+
+  private void enqueue(Entry<V> entry) {
+    insertionOrder.offer(entry);
+    queued.incrementAndGet();
+  }
+
+  /**
+   * Evict entries while the cache is over its maximum size. Also drop the
+   * stale queue nodes left behind by expired entries, so that the queue does
+   * not grow unbounded.
+   */
+  private void evictIfNeeded() {
+    while (map.mappingCount() > maximumSize
+        || queued.get() > 2 * maximumSize) {
+      final Entry<V> candidate = insertionOrder.poll();
+      if (candidate == null) {
+        return;
+      }
+      queued.decrementAndGet();
+      if (map.get(candidate.key) != candidate) {
+        // Stale: already removed or replaced
+        continue;
+      }
+
+      final boolean full = map.mappingCount() > maximumSize;
+      if (full && (!candidate.referenced || isExpired(candidate))) {
+        if (map.remove(candidate.key, candidate)) {
+          evictions.increment();
+        }
+      } else {
+        if (full) {
+          // Second chance
+          candidate.referenced = false;
+        }
+        enqueue(candidate);
+      }
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final Object key;
+    private final V value;
+    private final long writeTime;
+    private volatile boolean referenced;
+
+    private Entry(Object key, V value, long writeTime) {
+      this.key = key;
+      this.value = value;
+      this.writeTime = writeTime;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * An associative binary operation with a neutral element.
+ *
+ * <p>Implementations must satisfy the following laws, which allow the values
+ * to be combined in any grouping (for example in parallel) with the same
+ * result:
+ * <ul>
+ *   <li>Associativity:
+ *   {@code combine(combine(a, b), c)} equals {@code combine(a, combine(b, c))}
+ *   </li>
+ *   <li>Identity:
+ *   {@code combine(empty(), a)} and {@code combine(a, empty())} equal
+ *   {@code a}</li>
+ * </ul>
+ * Commutativity is not required: the order of the values is preserved.
+ *
+ * @param <A> Type of the values.
+ */
+public interface Monoid<A> {
+
+  /**
+   * The neutral element.
+   */
+  A empty();
+
+  /**
+   * Combine two values.
+   */
+  A combine(A a, A b);
+
+  /**
+   * Create a monoid from a neutral element and an associative operation.
+   */
+  static <A> Monoid<A> of(A empty, Function2<A, A, A> combine) {
+    return new Monoid<>() {
+      @Override
+      public A empty() {
+        return empty;
+      }
+
+      @Override
+      public A combine(A a, A b) {
+        return combine.apply(a, b);
+      }
+    };
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Strategy used by {@link Bulk} to apply a function to many values.
+ */
+public sealed interface Parallelism {
+
+  /**
+   * Apply the function to one value after the other in the calling thread.
+   */
+  static Parallelism sequential() {
+    return Sequential.INSTANCE;
+  }
+
+  /**
+   * Split the values among the threads of the common {@link ForkJoinPool}.
+   *
+   * <p>Suitable for functions that are CPU-bound.
+   */
+  static Parallelism cpuBound() {
+    return new CpuBound(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Split the values among the threads of the given {@link ForkJoinPool}.
+   *
+   * <p>Suitable for functions that are CPU-bound.
+   */
+  static Parallelism cpuBound(ForkJoinPool pool) {
+    return new CpuBound(pool);
+  }
+
+  /**
+   * Apply the function to each value in its own virtual thread, with at most
+   * the given number of applications running at the same time.
+   *
+   * <p>Suitable for functions that block (for example on I/O).
+   *
+   * @throws IllegalArgumentException If maxConcurrency is not positive.
+   */
+  static Parallelism blocking(int maxConcurrency) {
+    return new Blocking(maxConcurrency);
+  }
+
+  /**
+   * @see #sequential()
+   */
+  record Sequential() implements Parallelism {
+
+    private static final Sequential INSTANCE = new Sequential();
+  }
+
+  /**
+   * @see #cpuBound(ForkJoinPool)
+   */
+  record CpuBound(ForkJoinPool pool) implements Parallelism {
+  }
+
+  /**
+   * @see #blocking(int)
+   */
+  record Blocking(int maxConcurrency) implements Parallelism {
+
+    /**
+     * Default constructor.
+     *
+     * @throws IllegalArgumentException If maxConcurrency is not positive.
+     */
+    public Blocking {
+      if (maxConcurrency <= 0) {
+        throw new IllegalArgumentException(
+            "maxConcurrency must be positive: " + maxConcurrency);
+      }
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Function1} made of a sequence of functions applied one after the
+ * other.
+ *
+ * <p>Unlike the default {@link Function1#compose} and {@link Function1#then},
+ * which wrap the previous function in a new lambda, a pipeline keeps its
+ * stages in a flat array and applies them in a loop. Composing a pipeline with
+ * another function (or pipeline) appends to the array instead of nesting, so
+ * pipelines of any length can be applied without growing the call stack.
+ *
+ * <p>Pipelines are immutable, but share their array: {@link #then} writes the
+ * new stages in the spare capacity of the array when no other pipeline has
+ * claimed it yet, and copies the array (doubling its capacity) otherwise. A
+ * pipeline built one stage at a time with {@link #then} therefore takes
+ * amortized constant time per stage. {@link #compose} always copies.
+ *
+ * @param <A> Type of the argument of the pipeline.
+ * @param <B> Type of the value returned by the pipeline.
+ */
+public final class Pipeline<A, B> implements Function1<A, B> {
+
+  private static final int MIN_CAPACITY = 4;
+
+  private static final Pipeline<?, ?> IDENTITY
+      = new Pipeline<>(new Function1<?, ?>[0]);
+
+  /**
+   * Stages of this pipeline, followed by spare capacity (or by the stages of
+   * other pipelines sharing the same array).
+   */
+  private final Function1<?, ?>[] stages;
+  /**
+   * Number of stages of this pipeline.
+   */
+  private final int size;
+  /**
+   * Number of slots of the array claimed by the pipelines that share it.
+   */
+  private final AtomicInteger claimed;
+
+  private Pipeline(Function1<?, ?>[] stages) {
+    this(stages, stages.length, new AtomicInteger(stages.length));
+  }
+
+  private Pipeline(Function1<?, ?>[] stages, int size, AtomicInteger claimed) {
+    // Writes to stages happen before this final field is frozen, so they are
+    // visible to every thread that sees this pipeline
+    this.stages = stages;
+    this.size = size;
+    this.claimed = claimed;
+  }
+
+  /**
+   * Create a pipeline from a function.
+   *
+   * @return The given function if it is already a pipeline, otherwise a new
+   * pipeline containing it as its only stage.
+   */
+  public static <A, B> Pipeline<A, B> of(Function1<A, B> f) {
+    if (f instanceof Pipeline<A, B> pipeline) {
+      return pipeline;
+    }
+    return new Pipeline<>(new Function1<?, ?>[]{f});
+  }
+
+  /**
+   * Create an empty pipeline, which returns its input argument.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Pipeline<T, T> identity() {
+    return (Pipeline<T, T>) IDENTITY;
+  }
+
+  /**
+   * Create a pipeline that applies the given functions in order.
+   *
+   * <p>Unlike repeatedly calling {@link #then}, this copies the stages only
+   * once.
+   */
+  public static <T> Pipeline<T, T> chain(
+      Iterable<? extends Function1<T, T>> functions
+  ) {
+    final List<Function1<?, ?>> result = new ArrayList<>();
+    for (final Function1<T, T> f : functions) {
+      Collections.addAll(result, stagesOf(f));
+    }
+    return new Pipeline<>(result.toArray(new Function1<?, ?>[0]));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public B apply(A p0) {
+    Object value = p0;
+    for (int i = 0; i < size; i++) {
+      value = ((Function1<Object, Object>) stages[i]).apply(value);
+    }
+    return (B) value;
+  }
+
+  @Override
+  public <Z> Pipeline<Z, B> compose(Function1<? super Z, ? extends A> other) {
+    final Function1<?, ?>[] head = stagesOf(other);
+    final Function1<?, ?>[] result = Arrays.copyOf(head, head.length + size);
+    System.arraycopy(stages, 0, result, head.length, size);
+    return new Pipeline<>(result);
+  }
+
+  @Override
+  public <C> Pipeline<A, C> then(Function1<? super B, ? extends C> other) {
+    final Function1<?, ?>[] tail;
+    final int tailSize;
+    if (other instanceof Pipeline<?, ?> pipeline) {
+      tail = pipeline.stages;
+      tailSize = pipeline.size;
+    } else {
+      tail = null;
+      tailSize = 1;
+    }
+    final int newSize = size + tailSize;
+
+    final Function1<?, ?>[] result;
+    final AtomicInteger resultClaimed;
+    if (newSize <= stages.length && claimed.compareAndSet(size, newSize)) {
+      // No other pipeline has extended this one yet: extend it in place
+      result = stages;
+      resultClaimed = claimed;
+    } else {
+      result = new Function1<?, ?>[Math.max(2 * newSize, MIN_CAPACITY)];
+      System.arraycopy(stages, 0, result, 0, size);
+      resultClaimed = new AtomicInteger(newSize);
+    }
+    if (tail == null) {
+      result[size] = other;
+    } else {
+      System.arraycopy(tail, 0, result, size, tailSize);
+    }
+    return new Pipeline<>(result, newSize, resultClaimed);
+  }
+
+  /**
+   * Return the number of stages of this pipeline.
+   */
+  public int size() {
+    return size;
+  }
+
+  private static Function1<?, ?>[] stagesOf(Function1<?, ?> f) {
+    return f instanceof Pipeline<?, ?> pipeline
+        ? Arrays.copyOf(pipeline.stages, pipeline.size)
+        : new Function1<?, ?>[]{f};
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Function object that takes one argument and returns a {@code long}.
+ *
+ * <p>This is the {@code long}-producing specialization of {@link Function1}.
+ *
+ * @param <A> Type of the argument of the function.
+ */
+@FunctionalInterface
+public interface ToLongFunction1<A> {
+
+  long applyAsLong(A p0);
+}
@@ -0,0 +1,16 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Tuple of two values, used as argument of {@link Function2#tupled(Function2)}.
+ *
+ * @param <A> Type of the first value.
+ * @param <B> Type of the second value.
+ */
+public record Tuple2<A, B>(A first, B second) {
+}
@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Tuple of three values, used as argument of {@link Function3#tupled(Function3)}.
+ *
+ * @param <A> Type of the first value.
+ * @param <B> Type of the second value.
+ * @param <C> Type of the third value.
+ */
+public record Tuple3<A, B, C>(A first, B second, C third) {
+}
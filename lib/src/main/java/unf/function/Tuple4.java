@@ -0,0 +1,18 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+/**
+ * Tuple of four values, used as argument of {@link Function4#tupled(Function4)}.
+ *
+ * @param <A> Type of the first value.
+ * @param <B> Type of the second value.
+ * @param <C> Type of the third value.
+ * @param <D> Type of the fourth value.
+ */
+public record Tuple4<A, B, C, D>(A first, B second, C third, D fourth) {
+}
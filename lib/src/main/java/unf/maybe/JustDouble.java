@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeDouble} containing some value.
+ */
+public record JustDouble(double value) implements MaybeDouble {
+
+  @Override
+  public MaybeDouble flatMap(DoubleFunction<MaybeDouble> f) {
+    return f.apply(value);
+  }
+
+  @Override
+  public MaybeDouble map(DoubleUnaryOperator f) {
+    return new JustDouble(f.applyAsDouble(value));
+  }
+
+  @Override
+  public <S> S fold(DoubleFunction<S> someCase, Function0<S> noneCase) {
+    return someCase.apply(value);
+  }
+
+  @Override
+  public double orElse(double fallback) {
+    return value;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public DoubleStream stream() {
+    return DoubleStream.of(value);
+  }
+
+  @Override
+  public Maybe<Double> toMaybe() {
+    return new Just<>(value);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeInt} containing some value.
+ */
+public record JustInt(int value) implements MaybeInt {
+
+  @Override
+  public MaybeInt flatMap(IntFunction<MaybeInt> f) {
+    return f.apply(value);
+  }
+
+  @Override
+  public MaybeInt map(IntUnaryOperator f) {
+    return new JustInt(f.applyAsInt(value));
+  }
+
+  @Override
+  public <S> S fold(IntFunction<S> someCase, Function0<S> noneCase) {
+    return someCase.apply(value);
+  }
+
+  @Override
+  public int orElse(int fallback) {
+    return value;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public IntStream stream() {
+    return IntStream.of(value);
+  }
+
+  @Override
+  public Maybe<Integer> toMaybe() {
+    return new Just<>(value);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeLong} containing some value.
+ */
+public record JustLong(long value) implements MaybeLong {
+
+  @Override
+  public MaybeLong flatMap(LongFunction<MaybeLong> f) {
+    return f.apply(value);
+  }
+
+  @Override
+  public MaybeLong map(LongUnaryOperator f) {
+    return new JustLong(f.applyAsLong(value));
+  }
+
+  @Override
+  public <S> S fold(LongFunction<S> someCase, Function0<S> noneCase) {
+    return someCase.apply(value);
+  }
+
+  @Override
+  public long orElse(long fallback) {
+    return value;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public LongStream stream() {
+    return LongStream.of(value);
+  }
+
+  @Override
+  public Maybe<Long> toMaybe() {
+    return new Just<>(value);
+  }
+}
@@ -6,6 +6,11 @@
 
 package unf.maybe;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 import unf.function.Function0;
 import unf.function.Function1;
@@ -40,6 +45,17 @@ public sealed interface Maybe<T> permits Just, Nothing {
    */
   <S> S fold(Function1<T, S> someCase, Function0<S> noneCase);
 
+  /**
+   * Obtain the value of this option or a fallback.
+   *
+   * @return Returns the value of this option if this option is non-empty or
+   * the result of the given fallback function (which can be a
+   * {@link unf.function.Lazy} value) if this option is empty.
+   */
+  default T orElseGet(Function0<T> fallback) {
+    return fold(Function1.identity(), fallback);
+  }
+
   /**
    * Determine whether this option is empty.
    */
@@ -52,4 +68,99 @@ public sealed interface Maybe<T> permits Just, Nothing {
    * value if this option is non-empty.
    */
   Stream<T> stream();
+
+  /**
+   * Return an empty option.
+   *
+   * <p>Unlike {@code new Nothing<>()}, this does not allocate a new instance.
+   */
+  static <T> Maybe<T> nothing() {
+    return Nothing.instance();
+  }
+
+  /**
+   * Apply a function to each value and collect the results.
+   *
+   * <p>Stops at the first value for which the function returns an empty
+   * option.
+   *
+   * @return Returns an option containing the list of the results if the
+   * function produced a value for every element or an empty option otherwise.
+   */
+  static <A, B> Maybe<List<B>> traverse(
+      Iterable<A> values,
+      Function1<A, Maybe<B>> f
+  ) {
+    final List<B> result = values instanceof Collection<?> c
+        ? new ArrayList<>(c.size())
+        : new ArrayList<>();
+    for (final A value : values) {
+      if (!(f.apply(value) instanceof Just<B>(B b))) {
+        return nothing();
+      }
+      result.add(b);
+    }
+    return new Just<>(Collections.unmodifiableList(result));
+  }
+
+  /**
+   * Apply a function to each value and collect the results.
+   *
+   * @see #traverse(Iterable, Function1)
+   */
+  static <A, B> Maybe<List<B>> traverse(A[] values, Function1<A, Maybe<B>> f) {
+    return traverse(Arrays.asList(values), f);
+  }
+
+  /**
+   * Collect the values of the given options.
+   *
+   * @return Returns an option containing the list of the values if all the
+   * given options are non-empty or an empty option otherwise.
+   */
+  static <A> Maybe<List<A>> sequence(Iterable<Maybe<A>> values) {
+    return traverse(values, Function1.identity());
+  }
+
+  /**
+   * Collect the values of the given options.
+   *
+   * @see #sequence(Iterable)
+   */
+  static <A> Maybe<List<A>> sequence(Maybe<A>[] values) {
+    return traverse(Arrays.asList(values), Function1.identity());
+  }
+
+  /**
+   * Collect the values of the non-empty options.
+   *
+   * @see MaybeCollectors#catMaybes()
+   */
+  static <A> List<A> catMaybes(Iterable<Maybe<A>> values) {
+    final List<A> result = values instanceof Collection<?> c
+        ? new ArrayList<>(c.size())
+        : new ArrayList<>();
+    for (final Maybe<A> it : values) {
+      if (it instanceof Just<A>(A value)) {
+        result.add(value);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Find the first non-empty option.
+   *
+   * <p>Stops at the first non-empty option.
+   *
+   * @see MaybeCollectors#firstJust()
+   */
+  static <A> Maybe<A> firstJust(Iterable<Maybe<A>> values) {
+    for (final Maybe<A> it : values) {
+      if (!it.isEmpty()) {
+        return it;
+      }
+    }
+    return nothing();
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector}s for streams of {@link Maybe}s that do not need to
+ * produce an intermediate stream for each element.
+ *
+ * <p>All collectors support parallel streams and preserve encounter order.
+ */
+public final class MaybeCollectors {
+
+  private MaybeCollectors() {
+  }
+
+  /**
+   * Collect the values of the non-empty options.
+   */
+  public static <T> Collector<Maybe<T>, ?, List<T>> catMaybes() {
+    return Collector.of(
+        ArrayList::new,
+        (List<T> acc, Maybe<T> it) -> {
+          if (it instanceof Just<T>(T value)) {
+            acc.add(value);
+          }
+        },
+        (a, b) -> {
+          a.addAll(b);
+          return a;
+        },
+        Collections::unmodifiableList
+    );
+  }
+
+  /**
+   * Find the first non-empty option.
+   *
+   * @return A collector producing the first non-empty option in encounter
+   * order or an empty option if there is none.
+   */
+  public static <T> Collector<Maybe<T>, ?, Maybe<T>> firstJust() {
+    return Collectors.reducing(
+        Maybe.nothing(),
+        (a, b) -> a.isEmpty() ? b : a
+    );
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import unf.function.Function0;
+
+/**
+ * A {@link Maybe} specialized for {@code double} values that does not require
+ * boxing.
+ */
+public sealed interface MaybeDouble permits JustDouble, NothingDouble {
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns the result of applying the given function to the value of
+   * this option if this option is non-empty.
+   */
+  MaybeDouble flatMap(DoubleFunction<MaybeDouble> f);
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns an option containing the result of applying f to this
+   * option's value if this option is non-empty.
+   */
+  MaybeDouble map(DoubleUnaryOperator f);
+
+  /**
+   * Obtain a value depending on whether this option is empty or not.
+   *
+   * @return Returns the result of applying the someCase function to the value
+   * of this option if this option is non-empty or noneCase if this option is
+   * empty.
+   */
+  <S> S fold(DoubleFunction<S> someCase, Function0<S> noneCase);
+
+  /**
+   * Obtain the value of this option or a fallback.
+   *
+   * @return Returns the value of this option if this option is non-empty or
+   * the given fallback value if this option is empty.
+   */
+  double orElse(double fallback);
+
+  /**
+   * Determine whether this option is empty.
+   */
+  boolean isEmpty();
+
+  /**
+   * Produce a stream.
+   *
+   * @return An empty stream if this option is empty or a stream with a single
+   * value if this option is non-empty.
+   */
+  DoubleStream stream();
+
+  /**
+   * Convert to a (boxed) {@link Maybe}.
+   */
+  Maybe<Double> toMaybe();
+
+  /**
+   * Return an empty option.
+   *
+   * <p>Unlike {@code new NothingDouble()}, this does not allocate a new
+   * instance.
+   */
+  static MaybeDouble nothing() {
+    return NothingDouble.instance();
+  }
+
+  /**
+   * Convert a (boxed) {@link Maybe} into a MaybeDouble.
+   */
+  static MaybeDouble fromMaybe(Maybe<Double> maybe) {
+    return maybe.fold(JustDouble::new, MaybeDouble::nothing);
+  }
+}
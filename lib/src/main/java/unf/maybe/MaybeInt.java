@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import unf.function.Function0;
+
+/**
+ * A {@link Maybe} specialized for {@code int} values that does not require
+ * boxing.
+ */
+public sealed interface MaybeInt permits JustInt, NothingInt {
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns the result of applying the given function to the value of
+   * this option if this option is non-empty.
+   */
+  MaybeInt flatMap(IntFunction<MaybeInt> f);
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns an option containing the result of applying f to this
+   * option's value if this option is non-empty.
+   */
+  MaybeInt map(IntUnaryOperator f);
+
+  /**
+   * Obtain a value depending on whether this option is empty or not.
+   *
+   * @return Returns the result of applying the someCase function to the value
+   * of this option if this option is non-empty or noneCase if this option is
+   * empty.
+   */
+  <S> S fold(IntFunction<S> someCase, Function0<S> noneCase);
+
+  /**
+   * Obtain the value of this option or a fallback.
+   *
+   * @return Returns the value of this option if this option is non-empty or
+   * the given fallback value if this option is empty.
+   */
+  int orElse(int fallback);
+
+  /**
+   * Determine whether this option is empty.
+   */
+  boolean isEmpty();
+
+  /**
+   * Produce a stream.
+   *
+   * @return An empty stream if this option is empty or a stream with a single
+   * value if this option is non-empty.
+   */
+  IntStream stream();
+
+  /**
+   * Convert to a (boxed) {@link Maybe}.
+   */
+  Maybe<Integer> toMaybe();
+
+  /**
+   * Return an empty option.
+   *
+   * <p>Unlike {@code new NothingInt()}, this does not allocate a new
+   * instance.
+   */
+  static MaybeInt nothing() {
+    return NothingInt.instance();
+  }
+
+  /**
+   * Convert a (boxed) {@link Maybe} into a MaybeInt.
+   */
+  static MaybeInt fromMaybe(Maybe<Integer> maybe) {
+    return maybe.fold(JustInt::new, MaybeInt::nothing);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import unf.function.Function0;
+
+/**
+ * A {@link Maybe} specialized for {@code long} values that does not require
+ * boxing.
+ */
+public sealed interface MaybeLong permits JustLong, NothingLong {
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns the result of applying the given function to the value of
+   * this option if this option is non-empty.
+   */
+  MaybeLong flatMap(LongFunction<MaybeLong> f);
+
+  /**
+   * Apply a function to this option.
+   *
+   * @return Returns an option containing the result of applying f to this
+   * option's value if this option is non-empty.
+   */
+  MaybeLong map(LongUnaryOperator f);
+
+  /**
+   * Obtain a value depending on whether this option is empty or not.
+   *
+   * @return Returns the result of applying the someCase function to the value
+   * of this option if this option is non-empty or noneCase if this option is
+   * empty.
+   */
+  <S> S fold(LongFunction<S> someCase, Function0<S> noneCase);
+
+  /**
+   * Obtain the value of this option or a fallback.
+   *
+   * @return Returns the value of this option if this option is non-empty or
+   * the given fallback value if this option is empty.
+   */
+  long orElse(long fallback);
+
+  /**
+   * Determine whether this option is empty.
+   */
+  boolean isEmpty();
+
+  /**
+   * Produce a stream.
+   *
+   * @return An empty stream if this option is empty or a stream with a single
+   * value if this option is non-empty.
+   */
+  LongStream stream();
+
+  /**
+   * Convert to a (boxed) {@link Maybe}.
+   */
+  Maybe<Long> toMaybe();
+
+  /**
+   * Return an empty option.
+   *
+   * <p>Unlike {@code new NothingLong()}, this does not allocate a new
+   * instance.
+   */
+  static MaybeLong nothing() {
+    return NothingLong.instance();
+  }
+
+  /**
+   * Convert a (boxed) {@link Maybe} into a MaybeLong.
+   */
+  static MaybeLong fromMaybe(Maybe<Long> maybe) {
+    return maybe.fold(JustLong::new, MaybeLong::nothing);
+  }
+}
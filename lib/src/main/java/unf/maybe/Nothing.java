@@ -15,14 +15,29 @@ import unf.function.Function1;
  */
 public record Nothing<T>() implements Maybe<T> {
 
+  private static final Nothing<?> INSTANCE = new Nothing<>();
+
+  /**
+   * Return the shared Nothing instance.
+   *
+   * @see Maybe#nothing()
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <T> Nothing<T> instance() {
+    return (Nothing<T>) INSTANCE;
+  }
+
   @Override
+  @SuppressWarnings("unchecked")
   public <S> Maybe<S> flatMap(Function1<T, Maybe<S>> f) {
-    return new Nothing<>();
+    // T is a phantom type when there is no value: no need to reallocate
+    return (Maybe<S>) this;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <S> Maybe<S> map(Function1<T, S> f) {
-    return new Nothing<>();
+    return (Maybe<S>) this;
   }
 
   @Override
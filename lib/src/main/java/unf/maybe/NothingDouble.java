@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeDouble} containing no value.
+ */
+public record NothingDouble() implements MaybeDouble {
+
+  private static final NothingDouble INSTANCE = new NothingDouble();
+
+  /**
+   * Return the shared NothingDouble instance.
+   *
+   * @see MaybeDouble#nothing()
+   */
+  /* package */ static NothingDouble instance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public MaybeDouble flatMap(DoubleFunction<MaybeDouble> f) {
+    return this;
+  }
+
+  @Override
+  public MaybeDouble map(DoubleUnaryOperator f) {
+    return this;
+  }
+
+  @Override
+  public <S> S fold(DoubleFunction<S> someCase, Function0<S> noneCase) {
+    return noneCase.apply();
+  }
+
+  @Override
+  public double orElse(double fallback) {
+    return fallback;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public DoubleStream stream() {
+    return DoubleStream.empty();
+  }
+
+  @Override
+  public Maybe<Double> toMaybe() {
+    return Maybe.nothing();
+  }
+}
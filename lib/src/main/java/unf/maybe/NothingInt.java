@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeInt} containing no value.
+ */
+public record NothingInt() implements MaybeInt {
+
+  private static final NothingInt INSTANCE = new NothingInt();
+
+  /**
+   * Return the shared NothingInt instance.
+   *
+   * @see MaybeInt#nothing()
+   */
+  /* package */ static NothingInt instance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public MaybeInt flatMap(IntFunction<MaybeInt> f) {
+    return this;
+  }
+
+  @Override
+  public MaybeInt map(IntUnaryOperator f) {
+    return this;
+  }
+
+  @Override
+  public <S> S fold(IntFunction<S> someCase, Function0<S> noneCase) {
+    return noneCase.apply();
+  }
+
+  @Override
+  public int orElse(int fallback) {
+    return fallback;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public IntStream stream() {
+    return IntStream.empty();
+  }
+
+  @Override
+  public Maybe<Integer> toMaybe() {
+    return Maybe.nothing();
+  }
+}
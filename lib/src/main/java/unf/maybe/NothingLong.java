@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import unf.function.Function0;
+
+/**
+ * A {@link MaybeLong} containing no value.
+ */
+public record NothingLong() implements MaybeLong {
+
+  private static final NothingLong INSTANCE = new NothingLong();
+
+  /**
+   * Return the shared NothingLong instance.
+   *
+   * @see MaybeLong#nothing()
+   */
+  /* package */ static NothingLong instance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public MaybeLong flatMap(LongFunction<MaybeLong> f) {
+    return this;
+  }
+
+  @Override
+  public MaybeLong map(LongUnaryOperator f) {
+    return this;
+  }
+
+  @Override
+  public <S> S fold(LongFunction<S> someCase, Function0<S> noneCase) {
+    return noneCase.apply();
+  }
+
+  @Override
+  public long orElse(long fallback) {
+    return fallback;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public LongStream stream() {
+    return LongStream.empty();
+  }
+
+  @Override
+  public Maybe<Long> toMaybe() {
+    return Maybe.nothing();
+  }
+}
@@ -17,9 +17,16 @@
  * all errors are represented by {@code Nothing}. A richer error monad can be
  * built using the {@link unf.either.Either} type.
  *
+ * <p>{@link unf.maybe.MaybeInt}, {@link unf.maybe.MaybeLong} and
+ * {@link unf.maybe.MaybeDouble} are specializations of Maybe for primitive
+ * values that avoid boxing.
+ *
  * @see unf.maybe.Maybe
  * @see unf.maybe.Just
  * @see unf.maybe.Nothing
+ * @see unf.maybe.MaybeInt
+ * @see unf.maybe.MaybeLong
+ * @see unf.maybe.MaybeDouble
  * @see unf.either.Either
  */
 package unf.maybe;
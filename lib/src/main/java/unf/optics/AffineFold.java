@@ -6,11 +6,11 @@
 
 package unf.optics;
 
+import java.util.Spliterator;
 import unf.function.Function1;
 import unf.function.Function2;
 import unf.maybe.Just;
 import unf.maybe.Maybe;
-import unf.maybe.Nothing;
 
 /**
  * An AffineFold is a {@link Fold} that contains at most one element, or a
@@ -29,23 +29,46 @@ public interface AffineFold<S, A> extends Fold<S, A> {
    */
   Maybe<A> preview(S source);
 
+  /**
+   * Retrieve the targeted value or a fallback value if there is none.
+   *
+   * <p>Unlike {@link #preview}, this does not allocate for {@link Getter}s and
+   * for the optics obtained through {@code focus}.
+   */
+  default A previewOrElse(A fallback, S source) {
+    return preview(source) instanceof Just<A>(A value) ? value : fallback;
+  }
+
   @Override
+  @SuppressWarnings("unchecked")
   default <R> R foldMap(R neutralElement, Function2<R, R, R> reducer, Function1<A, R> map, S source) {
-    return preview(source).fold(
-        it -> reducer.apply(neutralElement, map.apply(it)),
-        () -> neutralElement
-    );
+    final Object it = Folds.previewOrNoMatch(this, source);
+    // Safe: anything but the sentinel is a target
+    return it == Folds.NO_MATCH
+        ? neutralElement
+        : reducer.apply(neutralElement, map.apply((A) it));
+  }
+
+  @Override
+  default Maybe<A> find(Function1<A, Boolean> predicate, S source) {
+    final Maybe<A> it = preview(source);
+    return it.fold(a -> predicate.apply(a) ? it : Maybe.nothing(), Maybe::nothing);
+  }
+
+  @Override
+  default int count(S source) {
+    return Folds.previewOrNoMatch(this, source) == Folds.NO_MATCH ? 0 : 1;
+  }
+
+  @Override
+  default Spliterator<A> spliterator(S source) {
+    return preview(source).stream().spliterator();
   }
 
   /**
    * Combine with another AffineFold.
    */
   default <U> AffineFold<S, U> focus(AffineFold<A, U> other) {
-    return source -> foldMap(
-        new Nothing<>(),
-        (acc, it) -> acc.fold(Just::new, () -> it),
-        other::preview,
-        source
-    );
+    return new ComposedAffineFold<>(this, other);
   }
 }
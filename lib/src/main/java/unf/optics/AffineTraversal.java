@@ -7,10 +7,7 @@
 package unf.optics;
 
 import unf.either.Either;
-import unf.either.Left;
-import unf.either.Right;
 import unf.function.Function1;
-import unf.maybe.Maybe;
 
 /**
  * An AffineTraversal is a Traversal that applies to at most one element.
@@ -37,41 +34,23 @@ public interface AffineTraversal<S, T, A, B>
   T set(B value, S source);
 
   @Override
+  @SuppressWarnings("unchecked")
   default T over(Function1<A, B> lift, S source) {
-    return matching(source).fold(
-        Function1.identity(),
-        r -> set(lift.apply(r), source)
-    );
+    final Object current = Folds.previewOrNoMatch(this, source);
+    if (current == Folds.NO_MATCH) {
+      return matching(source).fold(
+          Function1.identity(),
+          r -> set(lift.apply(r), source)
+      );
+    }
+    // Safe: anything but the sentinel is a target
+    return set(lift.apply((A) current), source);
   }
 
   /**
    * Combine with another AffineTraversal.
    */
   default <A2, B2> AffineTraversal<S, T, A2, B2> focus(AffineTraversal<A, B, A2, B2> other) {
-    return new AffineTraversal<>() {
-      @Override
-      public T set(B2 value, S source) {
-        return AffineTraversal.this.matching(source).fold(
-            Function1.identity(),
-            a -> AffineTraversal.this.set(other.set(value, a), source)
-        );
-      }
-
-      @Override
-      public Either<T, A2> matching(S source) {
-        return AffineTraversal.this.matching(source).fold(
-            Left::new,
-            a -> other.matching(a).fold(
-                b -> new Left<>(AffineTraversal.this.set(b, source)),
-                Right::new
-            )
-        );
-      }
-
-      @Override
-      public Maybe<A2> preview(S source) {
-        return AffineTraversal.this.preview(source).flatMap(other::preview);
-      }
-    };
+    return new ComposedAffineTraversal<>(this, other);
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.concurrent.atomic.AtomicReference;
+import unf.function.Function1;
+
+/**
+ * {@link Ref} backed by an {@link AtomicReference}.
+ */
+/* package */ final class AtomicRef<S> implements Ref<S> {
+
+  /**
+   * Maximum number of spin-wait hints between two failed compare-and-set
+   * attempts. Once reached, the thread yields instead.
+   */
+  private static final int MAX_SPINS = 1 << 6;
+
+  private final AtomicReference<S> state;
+
+  /* package */ AtomicRef(S initial) {
+    this.state = new AtomicReference<>(initial);
+  }
+
+  @Override
+  public S get() {
+    return state.get();
+  }
+
+  @Override
+  public void set(S value) {
+    state.set(value);
+  }
+
+  @Override
+  public boolean compareAndSet(S expected, S value) {
+    return state.compareAndSet(expected, value);
+  }
+
+  @Override
+  public S update(Function1<S, S> f) {
+    int spins = 1;
+    while (true) {
+      final S prev = state.get();
+      final S next = f.apply(prev);
+      if (next == prev || state.compareAndSet(prev, next)) {
+        return next;
+      }
+      // Contention: back off before recomputing the state, exponentially
+      if (spins < MAX_SPINS) {
+        for (int i = 0; i < spins; i++) {
+          Thread.onSpinWait();
+        }
+        spins <<= 1;
+      } else {
+        Thread.yield();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Ref[" + state.get() + "]";
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import unf.function.Function1;
+
+/**
+ * Lenses that apply a flattened chain of lenses in straight-line code.
+ *
+ * <p>Rather than nesting a lambda for each level, {@code over} views the
+ * source down to the parent of the innermost focus, applies the innermost
+ * lens and then rebuilds each level with {@link Lens#set}. For lawful lenses
+ * the result is the same as the one of the nested form.
+ *
+ * <p>Chains of up to four lenses get a dedicated class with one field per
+ * lens; longer chains keep the intermediate values in an array.
+ *
+ * @see Lens#compile()
+ */
+/* package */ final class CompiledLens {
+
+  private CompiledLens() {
+  }
+
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, T, A, B> Lens<S, T, A, B> of(Lens<S, T, A, B> lens) {
+    final Lens<Object, Object, Object, Object>[] lenses = flatten(lens);
+    // Reinterpret the chain: types are checked by the composition
+    final Lens<?, ?, ?, ?> compiled = switch (lenses.length) {
+      case 1 -> lenses[0];
+      case 2 -> new Fused2(lenses);
+      case 3 -> new Fused3(lenses);
+      case 4 -> new Fused4(lenses);
+      default -> new FusedN(lenses);
+    };
+    return (Lens<S, T, A, B>) compiled;
+  }
+
+  /**
+   * Collect the lenses of a composition, from the outermost to the innermost.
+   */
+  @SuppressWarnings("unchecked")
+  private static Lens<Object, Object, Object, Object>[] flatten(
+      Lens<?, ?, ?, ?> lens
+  ) {
+    final List<Lens<?, ?, ?, ?>> lenses = new ArrayList<>();
+    // Iterative in-order visit: compositions may be deeply nested
+    final Deque<Lens<?, ?, ?, ?>> stack = new ArrayDeque<>();
+    stack.push(lens);
+    while (!stack.isEmpty()) {
+      final Lens<?, ?, ?, ?> it = stack.pop();
+      if (it instanceof ComposedLens<?, ?, ?, ?, ?, ?>(var outer, var inner)) {
+        stack.push(inner);
+        stack.push(outer);
+      } else if (it instanceof Fused fused) {
+        for (int i = fused.lenses.length - 1; i >= 0; i--) {
+          stack.push(fused.lenses[i]);
+        }
+      } else {
+        lenses.add(it);
+      }
+    }
+    return (Lens<Object, Object, Object, Object>[])
+        lenses.toArray(new Lens<?, ?, ?, ?>[0]);
+  }
+
+  private abstract static class Fused
+      implements Lens<Object, Object, Object, Object> {
+
+    /* package */ final Lens<Object, Object, Object, Object>[] lenses;
+
+    /* package */ Fused(Lens<Object, Object, Object, Object>[] lenses) {
+      this.lenses = lenses;
+    }
+
+    @Override
+    public Object view(Object source) {
+      Object it = source;
+      for (final Lens<Object, Object, Object, Object> lens : lenses) {
+        it = lens.view(it);
+      }
+      return it;
+    }
+  }
+
+  private static final class Fused2 extends Fused {
+
+    private final Lens<Object, Object, Object, Object> l0;
+    private final Lens<Object, Object, Object, Object> l1;
+
+    private Fused2(Lens<Object, Object, Object, Object>[] lenses) {
+      super(lenses);
+      l0 = lenses[0];
+      l1 = lenses[1];
+    }
+
+    @Override
+    public Object view(Object source) {
+      return l1.view(l0.view(source));
+    }
+
+    @Override
+    public Object over(Function1<Object, Object> lift, Object source) {
+      return l0.set(l1.over(lift, l0.view(source)), source);
+    }
+
+    @Override
+    public Object set(Object value, Object source) {
+      return l0.set(l1.set(value, l0.view(source)), source);
+    }
+  }
+
+  private static final class Fused3 extends Fused {
+
+    private final Lens<Object, Object, Object, Object> l0;
+    private final Lens<Object, Object, Object, Object> l1;
+    private final Lens<Object, Object, Object, Object> l2;
+
+    private Fused3(Lens<Object, Object, Object, Object>[] lenses) {
+      super(lenses);
+      l0 = lenses[0];
+      l1 = lenses[1];
+      l2 = lenses[2];
+    }
+
+    @Override
+    public Object view(Object source) {
+      return l2.view(l1.view(l0.view(source)));
+    }
+
+    @Override
+    public Object over(Function1<Object, Object> lift, Object source) {
+      final Object a0 = l0.view(source);
+      final Object a1 = l1.view(a0);
+      return l0.set(l1.set(l2.over(lift, a1), a0), source);
+    }
+
+    @Override
+    public Object set(Object value, Object source) {
+      final Object a0 = l0.view(source);
+      final Object a1 = l1.view(a0);
+      return l0.set(l1.set(l2.set(value, a1), a0), source);
+    }
+  }
+
+  private static final class Fused4 extends Fused {
+
+    private final Lens<Object, Object, Object, Object> l0;
+    private final Lens<Object, Object, Object, Object> l1;
+    private final Lens<Object, Object, Object, Object> l2;
+    private final Lens<Object, Object, Object, Object> l3;
+
+    private Fused4(Lens<Object, Object, Object, Object>[] lenses) {
+      super(lenses);
+      l0 = lenses[0];
+      l1 = lenses[1];
+      l2 = lenses[2];
+      l3 = lenses[3];
+    }
+
+    @Override
+    public Object view(Object source) {
+      return l3.view(l2.view(l1.view(l0.view(source))));
+    }
+
+    @Override
+    public Object over(Function1<Object, Object> lift, Object source) {
+      final Object a0 = l0.view(source);
+      final Object a1 = l1.view(a0);
+      final Object a2 = l2.view(a1);
+      return l0.set(l1.set(l2.set(l3.over(lift, a2), a1), a0), source);
+    }
+
+    @Override
+    public Object set(Object value, Object source) {
+      final Object a0 = l0.view(source);
+      final Object a1 = l1.view(a0);
+      final Object a2 = l2.view(a1);
+      return l0.set(l1.set(l2.set(l3.set(value, a2), a1), a0), source);
+    }
+  }
+
+  private static final class FusedN extends Fused {
+
+    private FusedN(Lens<Object, Object, Object, Object>[] lenses) {
+      super(lenses);
+    }
+
+    @Override
+    public Object over(Function1<Object, Object> lift, Object source) {
+      final int last = lenses.length - 1;
+      final Object[] parents = parents(source);
+      return rebuild(lenses[last].over(lift, parents[last]), parents);
+    }
+
+    @Override
+    public Object set(Object value, Object source) {
+      final int last = lenses.length - 1;
+      final Object[] parents = parents(source);
+      return rebuild(lenses[last].set(value, parents[last]), parents);
+    }
+
+    /**
+     * View the sources of each lens.
+     */
+    private Object[] parents(Object source) {
+      final Object[] parents = new Object[lenses.length];
+      parents[0] = source;
+      for (int i = 1; i < parents.length; i++) {
+        parents[i] = lenses[i - 1].view(parents[i - 1]);
+      }
+      return parents;
+    }
+
+    /**
+     * Set the given value bottom-up, starting from the next-to-last lens.
+     */
+    private Object rebuild(Object value, Object[] parents) {
+      Object it = value;
+      for (int i = lenses.length - 2; i >= 0; i--) {
+        it = lenses[i].set(it, parents[i]);
+      }
+      return it;
+    }
+  }
+}
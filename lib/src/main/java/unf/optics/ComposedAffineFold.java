@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.maybe.Maybe;
+
+/**
+ * Composition of two affine folds.
+ *
+ * @see AffineFold#focus(AffineFold)
+ */
+/* package */ record ComposedAffineFold<S, A, U>(
+    AffineFold<S, A> outer,
+    AffineFold<A, U> inner
+) implements AffineFold<S, U>, Folds.Previewable<S> {
+
+  @Override
+  public Maybe<U> preview(S source) {
+    return Folds.preview(this, source);
+  }
+
+  @Override
+  public U previewOrElse(U fallback, S source) {
+    return Folds.previewOrElse(this, fallback, source);
+  }
+
+  @Override
+  public Object previewOrNoMatch(S source) {
+    return Folds.previewThrough(outer, inner, source);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.either.Either;
+import unf.maybe.Maybe;
+
+/**
+ * Composition of two affine traversals.
+ *
+ * @see AffineTraversal#focus(AffineTraversal)
+ */
+/* package */ record ComposedAffineTraversal<S, T, A, B, A2, B2>(
+    AffineTraversal<S, T, A, B> outer,
+    AffineTraversal<A, B, A2, B2> inner
+) implements AffineTraversal<S, T, A2, B2>, Folds.Previewable<S> {
+
+  @Override
+  public T set(B2 value, S source) {
+    return Folds.setThrough(outer, inner, value, source);
+  }
+
+  @Override
+  public Either<T, A2> matching(S source) {
+    return Folds.matchingThrough(outer, inner, source);
+  }
+
+  @Override
+  public Maybe<A2> preview(S source) {
+    return Folds.preview(this, source);
+  }
+
+  @Override
+  public A2 previewOrElse(A2 fallback, S source) {
+    return Folds.previewOrElse(this, fallback, source);
+  }
+
+  @Override
+  public Object previewOrNoMatch(S source) {
+    return Folds.previewThrough(outer, inner, source);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.function.Function1;
+
+/**
+ * Composition of two lenses.
+ *
+ * <p>Keeps both lenses so that the chain can be flattened by
+ * {@link Lens#compile()}.
+ *
+ * @see Lens#focus(Lens)
+ */
+/* package */ record ComposedLens<S, T, A, B, A2, B2>(
+    Lens<S, T, A, B> outer,
+    Lens<A, B, A2, B2> inner
+) implements Lens<S, T, A2, B2> {
+
+  @Override
+  public A2 view(S source) {
+    return inner.view(outer.view(source));
+  }
+
+  @Override
+  public T over(Function1<A2, B2> lift, S source) {
+    return outer.over(a -> inner.over(lift, a), source);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.either.Either;
+import unf.maybe.Maybe;
+
+/**
+ * Composition of two prisms.
+ *
+ * @see Prism#focus(Prism)
+ */
+/* package */ record ComposedPrism<S, T, A, B, A2, B2>(
+    Prism<S, T, A, B> outer,
+    Prism<A, B, A2, B2> inner
+) implements Prism<S, T, A2, B2>, Folds.Previewable<S> {
+
+  @Override
+  public Either<T, A2> matching(S source) {
+    return Folds.matchingThrough(outer, inner, source);
+  }
+
+  @Override
+  public Maybe<A2> preview(S source) {
+    return Folds.preview(this, source);
+  }
+
+  @Override
+  public A2 previewOrElse(A2 fallback, S source) {
+    return Folds.previewOrElse(this, fallback, source);
+  }
+
+  @Override
+  public T review(B2 value) {
+    return outer.review(inner.review(value));
+  }
+
+  @Override
+  public Object previewOrNoMatch(S source) {
+    return Folds.previewThrough(outer, inner, source);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.function.Function1;
+import unf.function.DoubleUnaryFunction1;
+
+/**
+ * A {@link Lens} focusing on a {@code double} field that can be viewed and
+ * updated without boxing.
+ *
+ * <p>The boxed {@link Lens} methods remain available, so that an DoubleLens can
+ * be composed with any other optic.
+ *
+ * @param <S> Source of the lens
+ */
+public interface DoubleLens<S> extends Lens<S, S, Double, Double> {
+
+  /**
+   * View the {@code double} value pointed to by this lens.
+   */
+  double viewDouble(S source);
+
+  /**
+   * Apply a {@code double} function to the value pointed to by this lens.
+   */
+  S overDouble(DoubleUnaryFunction1 lift, S source);
+
+  /**
+   * Set the {@code double} value pointed to by this lens.
+   *
+   * <p>If the given value is equal to the current one, the source is returned
+   * without being rebuilt.
+   */
+  default S setDouble(double value, S source) {
+    return Double.compare(value, viewDouble(source)) == 0 ? source : overDouble($ -> value, source);
+  }
+
+  @Override
+  default Double view(S source) {
+    return viewDouble(source);
+  }
+
+  @Override
+  default S over(Function1<Double, Double> lift, S source) {
+    return overDouble(lift::apply, source);
+  }
+
+  @Override
+  default S set(Double value, S source) {
+    return setDouble(value, source);
+  }
+
+  /**
+   * Combine a lens with an DoubleLens.
+   */
+  static <S, A> DoubleLens<S> focus(Lens<S, S, A, A> outer, DoubleLens<A> inner) {
+    return new DoubleLens<>() {
+      @Override
+      public double viewDouble(S source) {
+        return inner.viewDouble(outer.view(source));
+      }
+
+      @Override
+      public S overDouble(DoubleUnaryFunction1 lift, S source) {
+        return outer.over(a -> inner.overDouble(lift, a), source);
+      }
+    };
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.Objects;
+import unf.function.Function1;
+
+/**
+ * {@link Ref} to a part of the state of another reference.
+ *
+ * @see Ref#focus(Lens)
+ */
+/* package */ record FocusedRef<S, A>(Ref<S> parent, Lens<S, S, A, A> lens)
+    implements Ref<A> {
+
+  @Override
+  public A get() {
+    return lens.view(parent.get());
+  }
+
+  @Override
+  public void set(A value) {
+    parent.update(s -> lens.set(value, s));
+  }
+
+  @Override
+  public boolean compareAndSet(A expected, A value) {
+    while (true) {
+      final S prev = parent.get();
+      // Compared by value, as documented by Ref#compareAndSet
+      if (!Objects.equals(lens.view(prev), expected)) {
+        return false;
+      } else if (parent.compareAndSet(prev, lens.set(value, prev))) {
+        return true;
+      }
+      // Another part of the state changed: try again
+    }
+  }
+
+  @Override
+  public A update(Function1<A, A> f) {
+    return lens.view(parent.update(s -> lens.over(f, s)));
+  }
+
+  @Override
+  public <B> Ref<B> focus(Lens<A, A, B, B> other) {
+    return new FocusedRef<>(parent, lens.focus(other));
+  }
+}
@@ -6,8 +6,22 @@
 
 package unf.optics;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import unf.function.DoubleBinaryFunction2;
 import unf.function.Function1;
 import unf.function.Function2;
+import unf.function.IntBinaryFunction2;
+import unf.function.LongBinaryFunction2;
+import unf.function.Monoid;
+import unf.function.ToDoubleFunction1;
+import unf.function.ToIntFunction1;
+import unf.function.ToLongFunction1;
+import unf.maybe.Maybe;
+import unf.maybe.MaybeDouble;
+import unf.maybe.MaybeInt;
+import unf.maybe.MaybeLong;
 
 /**
  * A Fold has the ability to extract some number of elements of type {@code A}
@@ -28,6 +42,156 @@ public interface Fold<S, A> {
    */
   <R> R foldMap(R neutralElement, Function2<R, R, R> reducer, Function1<A, R> map, S source);
 
+  /**
+   * Map each target to {@code R} and combine the results with a monoid.
+   */
+  default <R> R foldMap(Monoid<R> monoid, Function1<A, R> map, S source) {
+    return foldMap(monoid.empty(), monoid::combine, map, source);
+  }
+
+  /**
+   * Map each target to {@code R} and combine the results with a monoid, in
+   * parallel.
+   *
+   * <p>Uses a default threshold of 1024 targets.
+   *
+   * @see #foldMapParallel(Monoid, Function1, Object, int)
+   */
+  default <R> R foldMapParallel(
+      Monoid<R> monoid,
+      Function1<A, R> map,
+      S source
+  ) {
+    return foldMapParallel(monoid, map, source, Folds.PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Map each target to {@code R} and combine the results with a monoid, in
+   * parallel.
+   *
+   * <p>The {@link #spliterator(Object) spliterator} of the targets is split
+   * with fork-join tasks (in the common {@link java.util.concurrent.ForkJoinPool}
+   * unless called from another pool) until each part has no more than
+   * {@code threshold} targets. Each part is mapped and combined sequentially,
+   * then the partial results are combined in order. The map function must
+   * be safe to call from multiple threads and the monoid must obey its laws
+   * for the result to be the same as the sequential one.
+   *
+   * <p>If the targets are known to be fewer than {@code threshold}, the work
+   * is done sequentially with {@link #foldMap(Monoid, Function1, Object)}.
+   */
+  default <R> R foldMapParallel(
+      Monoid<R> monoid,
+      Function1<A, R> map,
+      S source,
+      int threshold
+  ) {
+    final Spliterator<A> spliterator = spliterator(source);
+    final long size = spliterator.getExactSizeIfKnown();
+    return size >= 0 && size < threshold
+        ? foldMap(monoid, map, source)
+        : new FoldMapTask<>(monoid, map, spliterator, threshold).invoke();
+  }
+
+  /**
+   * Map each target to {@code int} and fold the results without boxing.
+   */
+  default int foldMapInt(
+      int zero,
+      IntBinaryFunction2 reducer,
+      ToIntFunction1<A> map,
+      S source
+  ) {
+    return Folds.foldMapInt(this, zero, reducer, map, source);
+  }
+
+  /**
+   * Sum the {@code int} values of the targets.
+   */
+  default int sumInt(ToIntFunction1<A> map, S source) {
+    return foldMapInt(0, Integer::sum, map, source);
+  }
+
+  /**
+   * Retrieve the minimum {@code int} value of the targets, if any.
+   */
+  default MaybeInt minInt(ToIntFunction1<A> map, S source) {
+    return Folds.extremumInt(this, Integer::min, map, source);
+  }
+
+  /**
+   * Retrieve the maximum {@code int} value of the targets, if any.
+   */
+  default MaybeInt maxInt(ToIntFunction1<A> map, S source) {
+    return Folds.extremumInt(this, Integer::max, map, source);
+  }
+
+  /**
+   * Map each target to {@code long} and fold the results without boxing.
+   */
+  default long foldMapLong(
+      long zero,
+      LongBinaryFunction2 reducer,
+      ToLongFunction1<A> map,
+      S source
+  ) {
+    return Folds.foldMapLong(this, zero, reducer, map, source);
+  }
+
+  /**
+   * Sum the {@code long} values of the targets.
+   */
+  default long sumLong(ToLongFunction1<A> map, S source) {
+    return foldMapLong(0L, Long::sum, map, source);
+  }
+
+  /**
+   * Retrieve the minimum {@code long} value of the targets, if any.
+   */
+  default MaybeLong minLong(ToLongFunction1<A> map, S source) {
+    return Folds.extremumLong(this, Long::min, map, source);
+  }
+
+  /**
+   * Retrieve the maximum {@code long} value of the targets, if any.
+   */
+  default MaybeLong maxLong(ToLongFunction1<A> map, S source) {
+    return Folds.extremumLong(this, Long::max, map, source);
+  }
+
+  /**
+   * Map each target to {@code double} and fold the results without boxing.
+   */
+  default double foldMapDouble(
+      double zero,
+      DoubleBinaryFunction2 reducer,
+      ToDoubleFunction1<A> map,
+      S source
+  ) {
+    return Folds.foldMapDouble(this, zero, reducer, map, source);
+  }
+
+  /**
+   * Sum the {@code double} values of the targets.
+   */
+  default double sumDouble(ToDoubleFunction1<A> map, S source) {
+    return foldMapDouble(0.0, Double::sum, map, source);
+  }
+
+  /**
+   * Retrieve the minimum {@code double} value of the targets, if any.
+   */
+  default MaybeDouble minDouble(ToDoubleFunction1<A> map, S source) {
+    return Folds.extremumDouble(this, Double::min, map, source);
+  }
+
+  /**
+   * Retrieve the maximum {@code double} value of the targets, if any.
+   */
+  default MaybeDouble maxDouble(ToDoubleFunction1<A> map, S source) {
+    return Folds.extremumDouble(this, Double::max, map, source);
+  }
+
   /**
    * Fold the targets.
    */
@@ -35,6 +199,84 @@ public interface Fold<S, A> {
     return foldMap(neutralElement, reducer, Function1.identity(), source);
   }
 
+  /**
+   * Find the first target that satisfies a predicate.
+   *
+   * <p>Stops as soon as a target satisfying the predicate is found. Folds that
+   * can visit their targets one at a time should override this method: the
+   * default implementation goes through {@link #foldMap}, which visits all
+   * the targets (without evaluating the predicate after a match).
+   *
+   * <p>All the other queries ({@link #any}, {@link #all}, {@link #first},
+   * {@link #isEmpty}, {@link #count}) are implemented on top of this method.
+   */
+  default Maybe<A> find(Function1<A, Boolean> predicate, S source) {
+    return Folds.findByFoldMap(this, predicate, source);
+  }
+
+  /**
+   * Determine whether any target satisfies a predicate, stopping at the first
+   * one that does.
+   */
+  default boolean any(Function1<A, Boolean> predicate, S source) {
+    return !find(predicate, source).isEmpty();
+  }
+
+  /**
+   * Determine whether all targets satisfy a predicate, stopping at the first
+   * one that does not.
+   */
+  default boolean all(Function1<A, Boolean> predicate, S source) {
+    return find(it -> !predicate.apply(it), source).isEmpty();
+  }
+
+  /**
+   * Retrieve the first target.
+   */
+  default Maybe<A> first(S source) {
+    return find($ -> true, source);
+  }
+
+  /**
+   * Determine whether there are no targets, stopping at the first one.
+   */
+  default boolean isEmpty(S source) {
+    return first(source).isEmpty();
+  }
+
+  /**
+   * Count the targets.
+   */
+  default int count(S source) {
+    return Folds.count(this, source);
+  }
+
+  /**
+   * Create a spliterator over the targets.
+   *
+   * <p>The targets are produced lazily as the spliterator is advanced. The
+   * default implementation goes through {@link #find}: advancing it collects
+   * the targets in batches of doubling size, so that each target is visited a
+   * constant number of times on average, and splitting it first collects all
+   * the remaining targets in a single pass, then splits them evenly. Folds
+   * that can produce their targets one at a time (for example from a list)
+   * should override this method to avoid holding the targets in memory.
+   */
+  default Spliterator<A> spliterator(S source) {
+    return new FoldSpliterator<>(this, source);
+  }
+
+  /**
+   * Create a sequential stream of the targets.
+   *
+   * <p>The targets are produced lazily, so short-circuiting operations such as
+   * {@link Stream#limit} and {@link Stream#takeWhile} stop visiting them.
+   * Use {@link Stream#parallel()} to process them in parallel.
+   */
+  default Stream<A> stream(S source) {
+    return StreamSupport.stream(spliterator(source), false);
+  }
+
   /**
    * Combine with another Focus.
    */
@@ -49,6 +291,16 @@ public interface Fold<S, A> {
             source
         );
       }
+
+      @Override
+      public Maybe<U> find(Function1<U, Boolean> predicate, S source) {
+        return Folds.findThrough(Fold.this, other, predicate, source);
+      }
+
+      @Override
+      public Spliterator<U> spliterator(S source) {
+        return Folds.spliteratorThrough(Fold.this, other, source);
+      }
     };
   }
 }
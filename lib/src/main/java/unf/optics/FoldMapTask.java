@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import unf.function.Function1;
+import unf.function.Monoid;
+
+/**
+ * Fork-join task that maps and combines the targets of a spliterator,
+ * splitting it while it holds more than a threshold of targets.
+ *
+ * <p>Partial results are combined in encounter order, so the monoid does not
+ * need to be commutative.
+ *
+ * @see Fold#foldMapParallel(Monoid, Function1, Object, int)
+ */
+/* package */ final class FoldMapTask<A, R> extends RecursiveTask<R> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Monoid<R> monoid;
+  private final transient Function1<A, R> map;
+  private final transient Spliterator<A> spliterator;
+  private final int threshold;
+
+  /* package */ FoldMapTask(
+      Monoid<R> monoid,
+      Function1<A, R> map,
+      Spliterator<A> spliterator,
+      int threshold
+  ) {
+    this.monoid = monoid;
+    this.map = map;
+    this.spliterator = spliterator;
+    this.threshold = threshold;
+  }
+
+  @Override
+  protected R compute() {
+    if (spliterator.estimateSize() > threshold) {
+      final Spliterator<A> prefix = spliterator.trySplit();
+      if (prefix != null) {
+        final FoldMapTask<A, R> left
+            = new FoldMapTask<>(monoid, map, prefix, threshold);
+        left.fork();
+        final R right = compute();
+        return monoid.combine(left.join(), right);
+      }
+    }
+    return foldRemaining();
+  }
+
+  private R foldRemaining() {
+    final Object[] result = {monoid.empty()};
+    spliterator.forEachRemaining(a -> result[0] = monoid.combine(
+        cast(result[0]),
+        map.apply(a)
+    ));
+    return cast(result[0]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R> R cast(Object value) {
+    return (R) value;
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the targets of a {@link Fold} that can only push its
+ * targets through {@link Fold#find}.
+ *
+ * <p>{@link #forEachRemaining} pushes the targets straight to the action.
+ * {@link #tryAdvance} pulls targets in batches of doubling size: each batch is
+ * collected by a new {@link Fold#find} that skips the targets consumed so far
+ * and stops once the batch is full. Since every batch is as large as all the
+ * ones before it, pulling {@code N} targets visits {@code O(N)} of them.
+ *
+ * <p>The first {@link #trySplit} collects all the remaining targets in a
+ * single pass and from then on delegates to a spliterator over them, which
+ * knows its size and splits them evenly.
+ *
+ * @see Fold#spliterator(Object)
+ */
+/* package */ final class FoldSpliterator<S, A> implements Spliterator<A> {
+
+  private static final int MAX_BATCH = Integer.MAX_VALUE - 8;
+
+  private final Fold<S, A> fold;
+  private final S source;
+  /**
+   * Number of targets already pulled from the fold.
+   */
+  private long consumed;
+  private Object[] buffer = new Object[0];
+  private int bufferIndex;
+  private int bufferSize;
+  private boolean exhausted;
+  /**
+   * Spliterator over all the remaining targets, once they have been
+   * collected by {@link #trySplit}.
+   */
+  private Spliterator<A> collected;
+
+  /* package */ FoldSpliterator(Fold<S, A> fold, S source) {
+    this.fold = fold;
+    this.source = source;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean tryAdvance(Consumer<? super A> action) {
+    if (collected != null) {
+      return collected.tryAdvance(action);
+    } else if (bufferIndex == bufferSize && !fill()) {
+      return false;
+    }
+    action.accept((A) buffer[bufferIndex++]);
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEachRemaining(Consumer<? super A> action) {
+    if (collected != null) {
+      collected.forEachRemaining(action);
+      return;
+    }
+    while (bufferIndex < bufferSize) {
+      action.accept((A) buffer[bufferIndex++]);
+    }
+    if (exhausted) {
+      return;
+    }
+    final long skip = consumed;
+    final long[] index = {0L};
+    fold.find(a -> {
+      if (index[0]++ >= skip) {
+        action.accept(a);
+      }
+      return false;
+    }, source);
+    consumed = index[0];
+    exhausted = true;
+  }
+
+  @Override
+  public Spliterator<A> trySplit() {
+    if (collected == null) {
+      collected = collect();
+    }
+    return collected.trySplit();
+  }
+
+  @Override
+  public long estimateSize() {
+    if (collected != null) {
+      return collected.estimateSize();
+    }
+    return exhausted ? bufferSize - bufferIndex : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return collected == null ? Spliterator.ORDERED : collected.characteristics();
+  }
+
+  /**
+   * Pull the next batch of targets into the buffer.
+   *
+   * @return Whether any target was pulled.
+   */
+  private boolean fill() {
+    if (exhausted) {
+      return false;
+    }
+    final int capacity = (int) Math.min(MAX_BATCH, Math.max(1L, consumed));
+    final Object[] batch = new Object[capacity];
+    final long skip = consumed;
+    final long[] index = {0L};
+    final int[] size = {0};
+    fold.find(a -> {
+      if (index[0]++ >= skip) {
+        batch[size[0]++] = a;
+      }
+      return size[0] == capacity;
+    }, source);
+    exhausted = size[0] < capacity;
+    consumed += size[0];
+    buffer = batch;
+    bufferIndex = 0;
+    bufferSize = size[0];
+    return bufferSize > 0;
+  }
+
+  /**
+   * Collect the targets left in the buffer and in the fold with a single
+   * {@link Fold#find}.
+   */
+  private Spliterator<A> collect() {
+    final List<Object> targets = new ArrayList<>(
+        Arrays.asList(buffer).subList(bufferIndex, bufferSize)
+    );
+    buffer = new Object[0];
+    bufferIndex = 0;
+    bufferSize = 0;
+    forEachRemaining(targets::add);
+    return Spliterators.spliterator(targets.toArray(), Spliterator.ORDERED);
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.Spliterator;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+import unf.function.DoubleBinaryFunction2;
+import unf.function.Function1;
+import unf.function.IntBinaryFunction2;
+import unf.function.LongBinaryFunction2;
+import unf.function.ToDoubleFunction1;
+import unf.function.ToIntFunction1;
+import unf.function.ToLongFunction1;
+import unf.maybe.Just;
+import unf.maybe.JustDouble;
+import unf.maybe.JustInt;
+import unf.maybe.JustLong;
+import unf.maybe.Maybe;
+import unf.maybe.MaybeDouble;
+import unf.maybe.MaybeInt;
+import unf.maybe.MaybeLong;
+
+/**
+ * Implementations of the short-circuiting queries of {@link Fold}.
+ */
+/* package */ final class Folds {
+
+  /**
+   * Default number of targets below which
+   * {@link Fold#foldMapParallel(unf.function.Monoid, Function1, Object)}
+   * works sequentially.
+   */
+  /* package */ static final int PARALLEL_THRESHOLD = 1024;
+
+  /**
+   * Value returned by {@link #previewOrNoMatch} when there is no target.
+   *
+   * <p>It is never exposed outside of this package, nor passed to methods that
+   * may be overridden: it is only ever compared by reference.
+   */
+  /* package */ static final Object NO_MATCH = new Object();
+
+  private Folds() {
+  }
+
+  /**
+   * Affine folds of this package that can retrieve their target without
+   * allocating.
+   */
+  /* package */ interface Previewable<S> {
+
+    /**
+     * Retrieve the targeted value or {@link #NO_MATCH} if there is none.
+     */
+    Object previewOrNoMatch(S source);
+  }
+
+  /**
+   * Retrieve the target of an affine fold or {@link #NO_MATCH} if there is
+   * none.
+   *
+   * <p>Getters and the optics composed by this package do not allocate; other
+   * affine folds go through {@link AffineFold#preview}.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A> Object previewOrNoMatch(
+      AffineFold<S, A> fold,
+      S source
+  ) {
+    if (fold instanceof Getter<S, A> getter) {
+      return getter.view(source);
+    } else if (fold instanceof Previewable<?> previewable) {
+      // Safe: composed optics are previewable on their own source type
+      return ((Previewable<S>) previewable).previewOrNoMatch(source);
+    } else {
+      return fold.preview(source) instanceof Just<A>(A value)
+          ? value
+          : NO_MATCH;
+    }
+  }
+
+  /**
+   * Preview an affine fold, allocating only the returned {@link Just}.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A> Maybe<A> preview(AffineFold<S, A> fold, S source) {
+    final Object it = previewOrNoMatch(fold, source);
+    // Safe: anything but the sentinel is a target
+    return it == NO_MATCH ? Maybe.nothing() : new Just<>((A) it);
+  }
+
+  /**
+   * Retrieve the target of an affine fold or a fallback value if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A> A previewOrElse(
+      AffineFold<S, A> fold,
+      A fallback,
+      S source
+  ) {
+    final Object it = previewOrNoMatch(fold, source);
+    // Safe: anything but the sentinel is a target
+    return it == NO_MATCH ? fallback : (A) it;
+  }
+
+  /**
+   * Retrieve the target of the composition of two affine folds or
+   * {@link #NO_MATCH} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A, U> Object previewThrough(
+      AffineFold<S, A> outer,
+      AffineFold<A, U> inner,
+      S source
+  ) {
+    final Object a = previewOrNoMatch(outer, source);
+    // Safe: anything but the sentinel is a target
+    return a == NO_MATCH ? NO_MATCH : previewOrNoMatch(inner, (A) a);
+  }
+
+  /**
+   * Match the composition of two affine traversals.
+   *
+   * <p>When both match, only the returned {@link Right} is allocated.
+   * Otherwise, the left value is obtained from
+   * {@link AffineTraversal#matching(Object)}.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, T, A, B, A2, B2> Either<T, A2> matchingThrough(
+      AffineTraversal<S, T, A, B> outer,
+      AffineTraversal<A, B, A2, B2> inner,
+      S source
+  ) {
+    final Object it = previewThrough(outer, inner, source);
+    if (it != NO_MATCH) {
+      // Safe: anything but the sentinel is a target
+      return new Right<>((A2) it);
+    }
+    return outer.matching(source).fold(
+        Left::new,
+        a -> inner.matching(a).fold(
+            b -> new Left<>(outer.set(b, source)),
+            Right::new
+        )
+    );
+  }
+
+  /**
+   * Set the target of the composition of two affine traversals.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, T, A, B, A2, B2> T setThrough(
+      AffineTraversal<S, T, A, B> outer,
+      AffineTraversal<A, B, A2, B2> inner,
+      B2 value,
+      S source
+  ) {
+    final Object a = previewOrNoMatch(outer, source);
+    if (a != NO_MATCH) {
+      // Safe: anything but the sentinel is a target
+      return outer.set(inner.set(value, (A) a), source);
+    }
+    return outer.matching(source).fold(
+        Function1.identity(),
+        it -> outer.set(inner.set(value, it), source)
+    );
+  }
+
+  /**
+   * Find the first target of a fold that satisfies a predicate using
+   * {@link Fold#foldMap}.
+   *
+   * <p>All the targets are visited, but the predicate is no longer evaluated
+   * once a match has been found.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A> Maybe<A> findByFoldMap(
+      Fold<S, A> fold,
+      Function1<A, Boolean> predicate,
+      S source
+  ) {
+    final Maybe<?>[] found = {Maybe.nothing()};
+    fold.<Void>foldMap(null, (acc, it) -> null, a -> {
+      if (found[0].isEmpty() && predicate.apply(a)) {
+        found[0] = new Just<>(a);
+      }
+      return null;
+    }, source);
+    return (Maybe<A>) found[0];
+  }
+
+  /**
+   * Find the first target of the composition of two folds that satisfies a
+   * predicate, stopping the outer fold as soon as the inner one finds it.
+   */
+  @SuppressWarnings("unchecked")
+  /* package */ static <S, A, U> Maybe<U> findThrough(
+      Fold<S, A> outer,
+      Fold<A, U> inner,
+      Function1<U, Boolean> predicate,
+      S source
+  ) {
+    final Maybe<?>[] found = {Maybe.nothing()};
+    outer.find(a -> {
+      final Maybe<U> it = inner.find(predicate, a);
+      found[0] = it;
+      return !it.isEmpty();
+    }, source);
+    return (Maybe<U>) found[0];
+  }
+
+  /**
+   * Create a spliterator over the targets of the composition of two folds.
+   *
+   * <p>The targets of the inner fold are produced lazily for each target of
+   * the outer fold, and splitting is delegated to the outer fold.
+   */
+  /* package */ static <S, A, U> Spliterator<U> spliteratorThrough(
+      Fold<S, A> outer,
+      Fold<A, U> inner,
+      S source
+  ) {
+    return outer.stream(source)
+        .flatMap(inner::stream)
+        .spliterator();
+  }
+
+  /**
+   * Map each target of a fold to {@code int} and fold the results with an
+   * unboxed accumulator.
+   */
+  /* package */ static <S, A> int foldMapInt(
+      Fold<S, A> fold,
+      int zero,
+      IntBinaryFunction2 reducer,
+      ToIntFunction1<A> map,
+      S source
+  ) {
+    final int[] acc = {zero};
+    fold.find(a -> {
+      acc[0] = reducer.applyAsInt(acc[0], map.applyAsInt(a));
+      return false;
+    }, source);
+    return acc[0];
+  }
+
+  /**
+   * Reduce the {@code int} values of the targets of a fold, if any.
+   */
+  /* package */ static <S, A> MaybeInt extremumInt(
+      Fold<S, A> fold,
+      IntBinaryFunction2 reducer,
+      ToIntFunction1<A> map,
+      S source
+  ) {
+    final int[] acc = {0};
+    final boolean[] found = {false};
+    fold.find(a -> {
+      final int value = map.applyAsInt(a);
+      acc[0] = found[0] ? reducer.applyAsInt(acc[0], value) : value;
+      found[0] = true;
+      return false;
+    }, source);
+    return found[0] ? new JustInt(acc[0]) : MaybeInt.nothing();
+  }
+
+  /**
+   * Map each target of a fold to {@code long} and fold the results with an
+   * unboxed accumulator.
+   */
+  /* package */ static <S, A> long foldMapLong(
+      Fold<S, A> fold,
+      long zero,
+      LongBinaryFunction2 reducer,
+      ToLongFunction1<A> map,
+      S source
+  ) {
+    final long[] acc = {zero};
+    fold.find(a -> {
+      acc[0] = reducer.applyAsLong(acc[0], map.applyAsLong(a));
+      return false;
+    }, source);
+    return acc[0];
+  }
+
+  /**
+   * Reduce the {@code long} values of the targets of a fold, if any.
+   */
+  /* package */ static <S, A> MaybeLong extremumLong(
+      Fold<S, A> fold,
+      LongBinaryFunction2 reducer,
+      ToLongFunction1<A> map,
+      S source
+  ) {
+    final long[] acc = {0L};
+    final boolean[] found = {false};
+    fold.find(a -> {
+      final long value = map.applyAsLong(a);
+      acc[0] = found[0] ? reducer.applyAsLong(acc[0], value) : value;
+      found[0] = true;
+      return false;
+    }, source);
+    return found[0] ? new JustLong(acc[0]) : MaybeLong.nothing();
+  }
+
+  /**
+   * Map each target of a fold to {@code double} and fold the results with an
+   * unboxed accumulator.
+   */
+  /* package */ static <S, A> double foldMapDouble(
+      Fold<S, A> fold,
+      double zero,
+      DoubleBinaryFunction2 reducer,
+      ToDoubleFunction1<A> map,
+      S source
+  ) {
+    final double[] acc = {zero};
+    fold.find(a -> {
+      acc[0] = reducer.applyAsDouble(acc[0], map.applyAsDouble(a));
+      return false;
+    }, source);
+    return acc[0];
+  }
+
+  /**
+   * Reduce the {@code double} values of the targets of a fold, if any.
+   */
+  /* package */ static <S, A> MaybeDouble extremumDouble(
+      Fold<S, A> fold,
+      DoubleBinaryFunction2 reducer,
+      ToDoubleFunction1<A> map,
+      S source
+  ) {
+    final double[] acc = {0.0};
+    final boolean[] found = {false};
+    fold.find(a -> {
+      final double value = map.applyAsDouble(a);
+      acc[0] = found[0] ? reducer.applyAsDouble(acc[0], value) : value;
+      found[0] = true;
+      return false;
+    }, source);
+    return found[0] ? new JustDouble(acc[0]) : MaybeDouble.nothing();
+  }
+
+  /**
+   * Count the targets of a fold.
+   */
+  /* package */ static <S, A> int count(Fold<S, A> fold, S source) {
+    final int[] count = {0};
+    fold.find(a -> {
+      count[0]++;
+      return false;
+    }, source);
+    return count[0];
+  }
+}
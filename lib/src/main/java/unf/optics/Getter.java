@@ -30,6 +30,11 @@ public interface Getter<S, A> extends AffineFold<S, A> {
     return new Just<>(view(source));
   }
 
+  @Override
+  default A previewOrElse(A fallback, S source) {
+    return view(source);
+  }
+
   /**
    * Combine this getter with another one.
    */
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.function.Function1;
+import unf.function.IntUnaryFunction1;
+
+/**
+ * A {@link Lens} focusing on a {@code int} field that can be viewed and
+ * updated without boxing.
+ *
+ * <p>The boxed {@link Lens} methods remain available, so that an IntLens can
+ * be composed with any other optic.
+ *
+ * @param <S> Source of the lens
+ */
+public interface IntLens<S> extends Lens<S, S, Integer, Integer> {
+
+  /**
+   * View the {@code int} value pointed to by this lens.
+   */
+  int viewInt(S source);
+
+  /**
+   * Apply a {@code int} function to the value pointed to by this lens.
+   */
+  S overInt(IntUnaryFunction1 lift, S source);
+
+  /**
+   * Set the {@code int} value pointed to by this lens.
+   *
+   * <p>If the given value is equal to the current one, the source is returned
+   * without being rebuilt.
+   */
+  default S setInt(int value, S source) {
+    return value == viewInt(source) ? source : overInt($ -> value, source);
+  }
+
+  @Override
+  default Integer view(S source) {
+    return viewInt(source);
+  }
+
+  @Override
+  default S over(Function1<Integer, Integer> lift, S source) {
+    return overInt(lift::apply, source);
+  }
+
+  @Override
+  default S set(Integer value, S source) {
+    return setInt(value, source);
+  }
+
+  /**
+   * Combine a lens with an IntLens.
+   */
+  static <S, A> IntLens<S> focus(Lens<S, S, A, A> outer, IntLens<A> inner) {
+    return new IntLens<>() {
+      @Override
+      public int viewInt(S source) {
+        return inner.viewInt(outer.view(source));
+      }
+
+      @Override
+      public S overInt(IntUnaryFunction1 lift, S source) {
+        return outer.over(a -> inner.overInt(lift, a), source);
+      }
+    };
+  }
+}
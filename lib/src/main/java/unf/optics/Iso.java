@@ -25,7 +25,7 @@ public interface Iso<S, T, A, B>
 
   @Override
   default <R> R foldMap(R neutralElement, Function2<R, R, R> reducer, Function1<A, R> map, S source) {
-    return matching(source).fold($ -> neutralElement, map);
+    return map.apply(view(source));
   }
 
   @Override
@@ -36,7 +36,7 @@ public interface Lens<S, T, A, B>
 
   @Override
   default <R> R foldMap(R neutralElement, Function2<R, R, R> reducer, Function1<A, R> map, S source) {
-    return matching(source).fold($ -> neutralElement, map);
+    return map.apply(view(source));
   }
 
   @Override
@@ -48,16 +48,22 @@ public interface Lens<S, T, A, B>
    * Combine with another Lens.
    */
   default <A2, B2> Lens<S, T, A2, B2> focus(Lens<A, B, A2, B2> other) {
-    return new Lens<>() {
-      @Override
-      public A2 view(S source) {
-        return other.view(Lens.this.view(source));
-      }
-
-      @Override
-      public T over(Function1<A2, B2> lift, S source) {
-        return Lens.this.over(a -> other.over(lift, a), source);
-      }
-    };
+    return new ComposedLens<>(this, other);
+  }
+
+  /**
+   * Compile a chain of lenses obtained by {@link #focus(Lens)} into a single
+   * lens.
+   *
+   * <p>The compiled lens views the source down to the innermost focus and
+   * rebuilds it bottom-up with {@link #set}, rather than nesting a function
+   * for each level in {@link #over}. For lawful lenses it behaves the same as
+   * this lens.
+   *
+   * @return A flattened lens equivalent to this one, or this lens if it is not
+   * a composition.
+   */
+  default Lens<S, T, A, B> compile() {
+    return CompiledLens.of(this);
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.function.Function1;
+import unf.function.LongUnaryFunction1;
+
+/**
+ * A {@link Lens} focusing on a {@code long} field that can be viewed and
+ * updated without boxing.
+ *
+ * <p>The boxed {@link Lens} methods remain available, so that an LongLens can
+ * be composed with any other optic.
+ *
+ * @param <S> Source of the lens
+ */
+public interface LongLens<S> extends Lens<S, S, Long, Long> {
+
+  /**
+   * View the {@code long} value pointed to by this lens.
+   */
+  long viewLong(S source);
+
+  /**
+   * Apply a {@code long} function to the value pointed to by this lens.
+   */
+  S overLong(LongUnaryFunction1 lift, S source);
+
+  /**
+   * Set the {@code long} value pointed to by this lens.
+   *
+   * <p>If the given value is equal to the current one, the source is returned
+   * without being rebuilt.
+   */
+  default S setLong(long value, S source) {
+    return value == viewLong(source) ? source : overLong($ -> value, source);
+  }
+
+  @Override
+  default Long view(S source) {
+    return viewLong(source);
+  }
+
+  @Override
+  default S over(Function1<Long, Long> lift, S source) {
+    return overLong(lift::apply, source);
+  }
+
+  @Override
+  default S set(Long value, S source) {
+    return setLong(value, source);
+  }
+
+  /**
+   * Combine a lens with an LongLens.
+   */
+  static <S, A> LongLens<S> focus(Lens<S, S, A, A> outer, LongLens<A> inner) {
+    return new LongLens<>() {
+      @Override
+      public long viewLong(S source) {
+        return inner.viewLong(outer.view(source));
+      }
+
+      @Override
+      public S overLong(LongUnaryFunction1 lift, S source) {
+        return outer.over(a -> inner.overLong(lift, a), source);
+      }
+    };
+  }
+}
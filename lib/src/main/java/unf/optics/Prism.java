@@ -7,11 +7,8 @@
 package unf.optics;
 
 import unf.either.Either;
-import unf.either.Left;
-import unf.either.Right;
 import unf.function.Function1;
 import unf.function.Function2;
-import unf.maybe.Maybe;
 
 /**
  * A Prism generalises the notion of a constructor (just as a {@link Lens}
@@ -28,14 +25,25 @@ public interface Prism<S, T, A, B>
   /* https://hackage.haskell.org/package/optics-core-0.4/docs/Optics-Prism.html */
 
   @Override
+  @SuppressWarnings("unchecked")
   default <R> R foldMap(R neutralElement, Function2<R, R, R> reducer, Function1<A, R> map, S source) {
-    return matching(source).fold($ -> neutralElement, map);
+    final Object it = Folds.previewOrNoMatch(this, source);
+    // Safe: anything but the sentinel is a target
+    return it == Folds.NO_MATCH ? neutralElement : map.apply((A) it);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   default T over(Function1<A, B> lift, S source) {
-    return matching(source).fold(Function1.identity(),
-        r -> review(lift.apply(r)));
+    final Object current = Folds.previewOrNoMatch(this, source);
+    if (current == Folds.NO_MATCH) {
+      return matching(source).fold(
+          Function1.identity(),
+          r -> review(lift.apply(r))
+      );
+    }
+    // Safe: anything but the sentinel is a target
+    return review(lift.apply((A) current));
   }
 
   @Override
@@ -47,27 +55,6 @@ public interface Prism<S, T, A, B>
    * Combine with another Prism.
    */
   default <A2, B2> Prism<S, T, A2, B2> focus(Prism<A, B, A2, B2> other) {
-    return new Prism<>() {
-      @Override
-      public Either<T, A2> matching(S source) {
-        return Prism.this.matching(source).fold(
-            Left::new,
-            a -> other.matching(a).fold(
-                b -> new Left<>(Prism.this.set(b, source)),
-                Right::new
-            )
-        );
-      }
-
-      @Override
-      public Maybe<A2> preview(S source) {
-        return Prism.this.preview(source).flatMap(other::preview);
-      }
-
-      @Override
-      public T review(B2 value) {
-        return Prism.this.review(other.review(value));
-      }
-    };
+    return new ComposedPrism<>(this, other);
   }
 }
@@ -15,6 +15,10 @@ import java.lang.annotation.Target;
  * Annotation used on a {@link Record} class {@code R} to generate a
  * {@code RLenses} class with a {@link Lens} for each of its component.
  *
+ * <p>Components of type {@code int}, {@code long} and {@code double} get a
+ * primitive specialized lens ({@link IntLens}, {@link LongLens} and
+ * {@link DoubleLens}) that can be used without boxing.
+ *
  * <p><b>Example</b>: for the following record class {@code Demo}:
  * <pre>{@code
  * public record Demo(int c0, String c1) {}
@@ -22,12 +26,12 @@ import java.lang.annotation.Target;
  * it would generate the following class {@code DemoLenses}:
  * <pre>{@code
  * public final class DemoLenses {
- *   public static final Lens<Demo, Demo, Integer, Integer> c0 = new Lens<>() {
- *     public Integer view(Demo source) {
+ *   public static final IntLens<Demo> c0 = new IntLens<>() {
+ *     public int viewInt(Demo source) {
  *       return source.c0();
  *     }
- *     public Demo over(Function1<Integer, Integer> lift, Demo source) {
- *       return new Demo(lift.apply(source.c0()), source.c1());
+ *     public Demo overInt(IntUnaryFunction1 lift, Demo source) {
+ *       return new Demo(lift.applyAsInt(source.c0()), source.c1());
  *     }
  *   };
  *   public static final Lens<Demo, Demo, String, String> c1 = new Lens<>() {
@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import unf.function.Function1;
+
+/**
+ * Create {@link Lens} instances for the components of a {@link Record} class
+ * at runtime.
+ *
+ * <p>Unlike the lenses generated by the {@link RecordOptics} annotation
+ * processor, these can be obtained for records that are not compiled together
+ * with the code that uses them, such as records from third-party libraries.
+ *
+ * <p>Lenses are built from the component accessors and the canonical
+ * constructor using {@link MethodHandle}s and are cached per class, so that
+ * looking them up again is cheap. Once the JIT has compiled them, lenses held
+ * in {@code static final} fields perform close to generated ones.
+ *
+ * <p>The values of primitive components are boxed.
+ */
+public final class RecordOpticsRuntime {
+
+  private static final ClassValue<Map<String, ComponentLens>> LENSES
+      = new ClassValue<>() {
+    @Override
+    protected Map<String, ComponentLens> computeValue(Class<?> type) {
+      return lensesOf(type);
+    }
+  };
+
+  private RecordOpticsRuntime() {
+  }
+
+  /**
+   * Obtain a lens for a component of a record class.
+   *
+   * <p>The type of the target is not checked: see
+   * {@link #lens(Class, String, Class)}.
+   *
+   * @throws IllegalArgumentException If the given class is not a record class,
+   *                                  it has no component with the given name
+   *                                  or its members cannot be accessed.
+   */
+  @SuppressWarnings("unchecked")
+  public static <R extends Record, A> Lens<R, R, A, A> lens(
+      Class<R> type,
+      String component
+  ) {
+    // Safe for R: the lens was built for the given class, A is up to the caller
+    return (Lens<R, R, A, A>) (Lens<?, ?, ?, ?>) componentLens(type, component);
+  }
+
+  /**
+   * Obtain a lens for a component of a record class, checking the type of the
+   * component.
+   *
+   * @param componentType Type of the component (the wrapper class for
+   *                      components of primitive types).
+   * @throws IllegalArgumentException If the given class is not a record class,
+   *                                  it has no component with the given name
+   *                                  and type or its members cannot be
+   *                                  accessed.
+   */
+  public static <R extends Record, A> Lens<R, R, A, A> lens(
+      Class<R> type,
+      String component,
+      Class<A> componentType
+  ) {
+    final ComponentLens lens = componentLens(type, component);
+    if (lens.type() != componentType) {
+      throw new IllegalArgumentException("Component " + component + " of "
+          + type.getName() + " has type " + lens.type().getName());
+    }
+    return lens(type, component);
+  }
+
+  private static ComponentLens componentLens(Class<?> type, String component) {
+    final ComponentLens lens = LENSES.get(type).get(component);
+    if (lens == null) {
+      throw new IllegalArgumentException(type.getName()
+          + " has no component named " + component);
+    }
+    return lens;
+  }
+
+  private static Map<String, ComponentLens> lensesOf(Class<?> type) {
+    if (!type.isRecord()) {
+      throw new IllegalArgumentException(type.getName()
+          + " is not a record class");
+    }
+    final RecordComponent[] components = type.getRecordComponents();
+    final Class<?>[] componentTypes = Arrays.stream(components)
+        .map(RecordComponent::getType)
+        .toArray(Class<?>[]::new);
+    try {
+      final MethodHandles.Lookup lookup = MethodHandles.lookup();
+      final MethodHandle constructor = lookup.unreflectConstructor(
+          accessible(type.getDeclaredConstructor(componentTypes)));
+      final MethodHandle[] accessors = new MethodHandle[components.length];
+      for (int i = 0; i < components.length; i++) {
+        accessors[i] = lookup.unreflect(
+            accessible(components[i].getAccessor()));
+      }
+
+      final Map<String, ComponentLens> lenses = new HashMap<>();
+      for (int i = 0; i < components.length; i++) {
+        final Class<?> componentType = componentTypes[i];
+        lenses.put(components[i].getName(), new ComponentLens(
+            accessors[i].asType(MethodType.genericMethodType(1)),
+            updater(constructor, accessors, i)
+                .asType(MethodType.genericMethodType(2)),
+            MethodType.methodType(componentType).wrap().returnType(),
+            componentType.isPrimitive()
+        ));
+      }
+      return Map.copyOf(lenses);
+    } catch (IllegalAccessException | NoSuchMethodException e) {
+      throw new IllegalArgumentException("Cannot access the members of "
+          + type.getName(), e);
+    }
+  }
+
+  /**
+   * Produce a method handle that creates a copy of a record with a different
+   * value for the i-th component: {@code (value, source) -> new R(...)}.
+   *
+   * <p>The canonical constructor is invoked directly with the other components
+   * read from the source, without any intermediate array.
+   */
+  private static MethodHandle updater(
+      MethodHandle constructor,
+      MethodHandle[] accessors,
+      int i
+  ) {
+    final int n = accessors.length;
+    // (C0, ..., Cn-1) -> R becomes (R, ..., Ci, ..., R) -> R
+    MethodHandle mh = constructor;
+    final int[] reorder = new int[n];
+    for (int j = 0; j < n; j++) {
+      if (j != i) {
+        mh = MethodHandles.filterArguments(mh, j, accessors[j]);
+        reorder[j] = 1;
+      }
+    }
+    // Then (Ci, R) -> R
+    return MethodHandles.permuteArguments(
+        mh,
+        MethodType.methodType(
+            constructor.type().returnType(),
+            constructor.type().parameterType(i),
+            constructor.type().returnType()
+        ),
+        reorder
+    );
+  }
+
+  private static <T extends AccessibleObject> T accessible(T member) {
+    // Needed for records that are not public, if their package is open to us
+    member.trySetAccessible();
+    return member;
+  }
+
+  /**
+   * Lens on a record component through method handles.
+   *
+   * <p>Being a record, its fields are trusted as constants by the JIT: when
+   * the lens itself is a constant, the method handles can be inlined.
+   *
+   * @param getter    {@code (Object) -> Object} accessor of the component.
+   * @param updater   {@code (Object, Object) -> Object} copy of the source
+   *                  with a new value for the component.
+   * @param type      Type of the component (boxed if primitive).
+   * @param primitive Whether the component is of a primitive type.
+   */
+  private record ComponentLens(MethodHandle getter,
+                               MethodHandle updater,
+                               Class<?> type,
+                               boolean primitive)
+      implements Lens<Object, Object, Object, Object> {
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public Object view(Object source) {
+      try {
+        return (Object) getter.invokeExact(source);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        // Record accessors cannot declare checked exceptions
+        throw new IllegalStateException(t);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public Object set(Object value, Object source) {
+      final Object current = view(source);
+      // Boxed primitives are compared by value (like the generated lenses)
+      if (value == current || primitive && current.equals(value)) {
+        return source;
+      }
+      try {
+        return (Object) updater.invokeExact(value, source);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        // Canonical constructors cannot declare checked exceptions
+        throw new IllegalStateException(t);
+      }
+    }
+
+    @Override
+    public Object over(Function1<Object, Object> lift, Object source) {
+      return set(lift.apply(view(source)), source);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import unf.function.Function1;
+
+/**
+ * A mutable, thread-safe reference to an immutable state, updated atomically
+ * through functions and optics.
+ *
+ * <p>Updates are lock-free: the new state is computed from the current one and
+ * installed with a compare-and-set, which is retried (after a short backoff
+ * that reduces contention) if another thread changed the state in the
+ * meantime. The update function may therefore be applied more than once and
+ * must not have side effects.
+ *
+ * <p>An update that returns the same reference it was given (such as
+ * the {@code over} of a lens generated by {@link RecordOptics} when the
+ * focused value does not change) does not write the reference at all.
+ *
+ * @param <S> Type of the state.
+ */
+public interface Ref<S> {
+
+  /**
+   * Create a new reference with the given initial state.
+   */
+  static <S> Ref<S> of(S initial) {
+    return new AtomicRef<>(initial);
+  }
+
+  /**
+   * Read the current state.
+   */
+  S get();
+
+  /**
+   * Read a part of the current state.
+   */
+  default <A> A get(Getter<S, A> getter) {
+    return getter.view(get());
+  }
+
+  /**
+   * Replace the state.
+   */
+  void set(S value);
+
+  /**
+   * Replace a part of the state.
+   *
+   * @return The new state.
+   */
+  default <A> S set(Lens<S, S, A, A> lens, A value) {
+    return update(s -> lens.set(value, s));
+  }
+
+  /**
+   * Atomically replace the state if it is the expected one.
+   *
+   * <p>A reference created by {@link #of} or {@link RefMap#at} compares its
+   * state by reference. A reference obtained by {@link #focus} compares the
+   * part it views with {@link Object#equals} instead, since a lens may return
+   * a different (but equal) value at each view, for example when it boxes a
+   * primitive component. The other parts of the state are never compared.
+   *
+   * @return Whether the state was replaced.
+   */
+  boolean compareAndSet(S expected, S value);
+
+  /**
+   * Atomically update the state with a function.
+   *
+   * @return The new state.
+   */
+  S update(Function1<S, S> f);
+
+  /**
+   * Atomically update a part of the state with a function.
+   *
+   * @return The new state.
+   */
+  default <A> S update(Lens<S, S, A, A> lens, Function1<A, A> f) {
+    return update(s -> lens.over(f, s));
+  }
+
+  /**
+   * Obtain a reference to a part of this state.
+   *
+   * <p>The returned reference holds no state of its own: it reads and updates
+   * this reference through the given lens, so it can be handed to code that
+   * should only see a part of the state.
+   */
+  default <A> Ref<A> focus(Lens<S, S, A, A> lens) {
+    return new FocusedRef<>(this, lens);
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import unf.function.Function1;
+import unf.maybe.Just;
+import unf.maybe.Maybe;
+
+/**
+ * A thread-safe map of immutable states, each held by its own {@link Ref}.
+ *
+ * <p>Keeping a map of states in a single {@link Ref} makes every update
+ * contend with all the others and copy the whole map. Here the state is
+ * partitioned by key instead: updates of different keys never contend with
+ * each other and only updates of the same key are retried.
+ *
+ * <p>Removing a key marks its reference as removed before taking it out of
+ * the map. A reference obtained from {@link #at} keeps working after its key
+ * is removed: it then reads and updates the state of the key in this map,
+ * which starts again from the initial state it was created with. No update
+ * is lost to a concurrent removal.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the states.
+ */
+public final class RefMap<K, V> {
+
+  /**
+   * State of a reference whose key has been removed.
+   */
+  private static final Object REMOVED = new Object();
+
+  private final ConcurrentHashMap<K, Entry> refs = new ConcurrentHashMap<>();
+
+  /**
+   * Create an empty map.
+   */
+  public RefMap() {
+  }
+
+  /**
+   * Read the current state of a key.
+   *
+   * @return The state of the given key if it has one, otherwise nothing.
+   */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> get(K key) {
+    final Entry entry = refs.get(key);
+    final Object it = entry == null ? REMOVED : entry.state.get();
+    // Safe: anything but the sentinel is a state
+    return it == REMOVED ? Maybe.nothing() : new Just<>((V) it);
+  }
+
+  /**
+   * Obtain the reference that holds the state of a key, creating it with the
+   * given initial state if the key has none.
+   */
+  public Ref<V> at(K key, V initial) {
+    while (true) {
+      final Entry present = refs.get(key);
+      // Avoid the capturing lambda of computeIfAbsent when the key is present
+      final Entry entry = present == null
+          ? refs.computeIfAbsent(key, k -> new Entry(k, initial))
+          : present;
+      if (entry.state.get() != REMOVED) {
+        return entry;
+      }
+      // Being removed: help the removal and try again
+      refs.remove(key, entry);
+    }
+  }
+
+  /**
+   * Atomically update the state of a key with a function.
+   *
+   * @param initial The state the function is applied to if the key has none.
+   * @return The new state of the key.
+   */
+  public V update(K key, V initial, Function1<V, V> f) {
+    return at(key, initial).update(f);
+  }
+
+  /**
+   * Atomically update a part of the state of a key with a function.
+   *
+   * @param initial The state the function is applied to if the key has none.
+   * @return The new state of the key.
+   */
+  public <A> V update(K key, V initial, Lens<V, V, A, A> lens, Function1<A, A> f) {
+    return at(key, initial).update(lens, f);
+  }
+
+  /**
+   * Remove the state of a key.
+   *
+   * <p>Updates that complete after the removal apply to a new state of the
+   * key, created from its initial state.
+   *
+   * @return The state the key had, if any.
+   */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> remove(K key) {
+    final Entry entry = refs.get(key);
+    if (entry == null) {
+      return Maybe.nothing();
+    }
+    while (true) {
+      final Object prev = entry.state.get();
+      if (prev == REMOVED) {
+        // Removed concurrently
+        refs.remove(key, entry);
+        return Maybe.nothing();
+      } else if (entry.state.compareAndSet(prev, REMOVED)) {
+        refs.remove(key, entry);
+        // Safe: anything but the sentinel is a state
+        return new Just<>((V) prev);
+      }
+    }
+  }
+
+  /**
+   * Return the number of keys that have a state.
+   */
+  public int size() {
+    return refs.size();
+  }
+
+  /**
+   * Copy the current state of every key.
+   *
+   * <p>The state of each key is read atomically, but the copy as a whole is
+   * not a consistent snapshot if the map is updated concurrently.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<K, V> snapshot() {
+    final Map<K, V> copy = new HashMap<>(refs.size());
+    refs.forEach((k, entry) -> {
+      final Object it = entry.state.get();
+      if (it != REMOVED) {
+        // Safe: anything but the sentinel is a state
+        copy.put(k, (V) it);
+      }
+    });
+    return copy;
+  }
+
+  @Override
+  public String toString() {
+    return "RefMap" + snapshot();
+  }
+
+  /**
+   * Reference to the state of a key.
+   *
+   * <p>Once the key has been removed, its state is {@link #REMOVED} and every
+   * operation is forwarded to the reference that the key has in the map.
+   */
+  private final class Entry implements Ref<V> {
+
+    private final K key;
+    private final V initial;
+    private final AtomicRef<Object> state;
+
+    private Entry(K key, V initial) {
+      this.key = key;
+      this.initial = initial;
+      this.state = new AtomicRef<>(initial);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get() {
+      final Object it = state.get();
+      if (it != REMOVED) {
+        // Safe: anything but the sentinel is a state
+        return (V) it;
+      }
+      // Read without creating a new state for the key
+      final Entry entry = refs.get(key);
+      return entry == null || entry == this ? initial : entry.get();
+    }
+
+    @Override
+    public void set(V value) {
+      while (true) {
+        final Object prev = state.get();
+        if (prev == REMOVED) {
+          current().set(value);
+          return;
+        } else if (state.compareAndSet(prev, value)) {
+          return;
+        }
+      }
+    }
+
+    @Override
+    public boolean compareAndSet(V expected, V value) {
+      return state.compareAndSet(expected, value)
+          || state.get() == REMOVED && current().compareAndSet(expected, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V update(Function1<V, V> f) {
+      // Safe: anything but the sentinel is a state. A removed state is left
+      // as it is, since the update function returns it unchanged
+      final Object it = state.update(s -> s == REMOVED ? s : f.apply((V) s));
+      return it == REMOVED ? current().update(f) : (V) it;
+    }
+
+    @Override
+    public String toString() {
+      return "Ref[" + get() + "]";
+    }
+
+    /**
+     * Obtain the reference that the key of this entry has in the map.
+     */
+    private Ref<V> current() {
+      return at(key, initial);
+    }
+  }
+}
@@ -6,8 +6,10 @@
 
 package unf.optics;
 
+import java.util.Spliterator;
 import unf.function.Function1;
 import unf.function.Function2;
+import unf.maybe.Maybe;
 
 /**
  * A Traversal lifts an effectful operation on elements to act on structures
@@ -39,6 +41,16 @@ public interface Traversal<S, T, A, B> extends Fold<S, A>, Setter<S, T, A, B> {
         );
       }
 
+      @Override
+      public Maybe<A2> find(Function1<A2, Boolean> predicate, S source) {
+        return Folds.findThrough(Traversal.this, other, predicate, source);
+      }
+
+      @Override
+      public Spliterator<A2> spliterator(S source) {
+        return Folds.spliteratorThrough(Traversal.this, other, source);
+      }
+
       @Override
       public T over(Function1<A2, B2> lift, S source) {
         return Traversal.this.over(a -> other.over(lift, a), source);
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import org.junit.Assume;
+import unf.function.Function0;
+
+/**
+ * Measure the number of bytes allocated by an operation using the per-thread
+ * allocation counters of {@link ThreadMXBean}.
+ *
+ * <p>The result of each invocation is published to a volatile field so that
+ * it always escapes: the measured value is an upper bound that the JIT can
+ * only lower, which keeps budgets stable across JVMs and compilation levels.
+ */
+public final class Allocations {
+
+  /**
+   * Upper bound of the size in bytes of an object with up to two reference
+   * fields across common JVM configurations (with or without compressed
+   * pointers).
+   */
+  public static final long OBJECT = 32L;
+
+  private static final int WARMUP_ITERATIONS = 20_000;
+
+  private static final int MEASURED_ITERATIONS = 10_000;
+
+  @SuppressWarnings("unused")
+  private static volatile Object sink;
+
+  private Allocations() {
+  }
+
+  /**
+   * Return the average number of bytes allocated by each invocation of the
+   * given operation.
+   *
+   * <p>Skips the calling test if the JVM does not support thread allocated
+   * memory measurement.
+   */
+  public static long bytesPerOp(Function0<?> op) {
+    final ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(bean.isThreadAllocatedMemorySupported());
+    if (!bean.isThreadAllocatedMemoryEnabled()) {
+      bean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      sink = op.apply();
+    }
+
+    final long before = bean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      sink = op.apply();
+    }
+    final long after = bean.getCurrentThreadAllocatedBytes();
+    return (after - before) / MEASURED_ITERATIONS;
+  }
+}
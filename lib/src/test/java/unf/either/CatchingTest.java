@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.function.Function1;
+
+public final class CatchingTest {
+
+  private static final Failure MALFORMED = new Failure("malformed");
+
+  @Test
+  public void catchingValue() {
+    Assert.assertEquals(new Right<>(1), Either.catching(() -> 1));
+  }
+
+  @Test
+  public void catchingException() {
+    final IllegalStateException e = new IllegalStateException();
+    Assert.assertEquals(new Left<>(e), Either.catching(() -> {
+      throw e;
+    }));
+  }
+
+  @Test
+  public void catchingType() {
+    Assert.assertFalse(Either.catching(
+        NumberFormatException.class,
+        () -> Integer.parseInt("x")
+    ).isRight());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void catchingOtherType() {
+    Either.catching(NumberFormatException.class, () -> {
+      throw new IllegalStateException();
+    });
+  }
+
+  @Test
+  public void catchingFunction() {
+    final Function1<String, Either<RuntimeException, Integer>> parse
+        = Either.catching(Integer::parseInt);
+    Assert.assertEquals(new Right<>(12), parse.apply("12"));
+    Assert.assertFalse(parse.apply("twelve").isRight());
+  }
+
+  @Test
+  public void failureIsStackless() {
+    Assert.assertEquals(0, new Failure("stackless").getStackTrace().length);
+  }
+
+  @Test
+  public void failureReused() {
+    Assert.assertEquals(new Left<>(MALFORMED), Either.catching(() -> {
+      throw MALFORMED;
+    }));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.Allocations;
+import unf.function.Function1;
+
+public final class EitherAllocationTest {
+
+  private static final Either<String, String> LEFT = new Left<>("error");
+  private static final Either<String, String> RIGHT = new Right<>("value");
+  private static final Either<String, String> OTHER = new Right<>("other");
+  private static final Function1<String, String> ID = Function1.identity();
+
+  @Test
+  public void leftFold() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> LEFT.fold(ID, ID)));
+  }
+
+  @Test
+  public void rightFold() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> RIGHT.fold(ID, ID)));
+  }
+
+  @Test
+  public void leftMapRight() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> LEFT.mapRight(ID)));
+  }
+
+  @Test
+  public void rightMapRight() {
+    Assert.assertTrue(Allocations.bytesPerOp(() -> RIGHT.mapRight(ID))
+        <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void leftFlatMapRight() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> LEFT.flatMapRight($ -> OTHER)));
+  }
+
+  @Test
+  public void rightFlatMapRight() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> RIGHT.flatMapRight($ -> OTHER)));
+  }
+
+  @Test
+  public void rightMapLeft() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> RIGHT.mapLeft(ID)));
+  }
+
+  @Test
+  public void rightFlatMapLeft() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> RIGHT.flatMapLeft($ -> LEFT)));
+  }
+
+  @Test
+  public void leftChain() {
+    Assert.assertEquals(0L, Allocations.bytesPerOp(
+        () -> LEFT.flatMapRight($ -> OTHER).mapRight(ID).flatMapRight($ -> OTHER)
+    ));
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class EitherCollectorsTest {
+
+  private static final List<Either<String, Integer>> VALUES = List.of(
+      new Right<>(1),
+      new Left<>("a"),
+      new Right<>(2),
+      new Left<>("b"),
+      new Right<>(3)
+  );
+
+  private static final Partition<String, Integer> PARTITION = new Partition<>(
+      List.of("a", "b"),
+      List.of(1, 2, 3)
+  );
+
+  @Test
+  public void lefts() {
+    Assert.assertEquals(List.of("a", "b"),
+        VALUES.stream().collect(EitherCollectors.lefts()));
+  }
+
+  @Test
+  public void rights() {
+    Assert.assertEquals(List.of(1, 2, 3),
+        VALUES.stream().collect(EitherCollectors.rights()));
+  }
+
+  @Test
+  public void partition() {
+    Assert.assertEquals(PARTITION,
+        VALUES.stream().collect(EitherCollectors.partition()));
+  }
+
+  @Test
+  public void partitionParallel() {
+    final int n = 10_000;
+    final Partition<Integer, Integer> expected = new Partition<>(
+        IntStream.range(0, n).filter(i -> i % 2 == 0).boxed().toList(),
+        IntStream.range(0, n).filter(i -> i % 2 != 0).boxed().toList()
+    );
+    Assert.assertEquals(expected,
+        IntStream.range(0, n)
+            .parallel()
+            .mapToObj(i -> i % 2 == 0
+                ? new Left<Integer, Integer>(i)
+                : new Right<Integer, Integer>(i))
+            .collect(EitherCollectors.partition()));
+  }
+
+  @Test
+  public void leftsBulk() {
+    Assert.assertEquals(List.of("a", "b"), Either.lefts(VALUES));
+  }
+
+  @Test
+  public void rightsBulk() {
+    Assert.assertEquals(List.of(1, 2, 3), Either.rights(VALUES));
+  }
+
+  @Test
+  public void partitionBulk() {
+    Assert.assertEquals(PARTITION, Either.partition(VALUES));
+  }
+
+  @Test
+  public void partitionBulkIterable() {
+    final Iterable<Either<String, Integer>> it = VALUES::iterator;
+    Assert.assertEquals(PARTITION, Either.partition(it));
+  }
+}
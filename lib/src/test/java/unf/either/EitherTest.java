@@ -6,6 +6,7 @@
 
 package unf.either;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
@@ -46,6 +47,18 @@ public final class EitherTest {
     Assert.assertEquals(new Left<>(0), new Left<>(0).mapRight($ -> 1));
   }
 
+  @Test
+  public void leftMapRightKeepsInstance() {
+    final Either<Integer, Integer> left = new Left<>(0);
+    Assert.assertSame(left, left.mapRight($ -> 1));
+  }
+
+  @Test
+  public void rightMapLeftKeepsInstance() {
+    final Either<Integer, Integer> right = new Right<>(0);
+    Assert.assertSame(right, right.mapLeft($ -> 1));
+  }
+
   @Test
   public void rightMapLeft() {
     Assert.assertEquals(new Right<>(1), new Right<>(1).mapLeft($ -> 0));
@@ -101,4 +114,35 @@ public final class EitherTest {
   public void rightStreamRightLenOne() {
     Assert.assertEquals(1, new Right<>(0).streamRight().count());
   }
+
+  @Test
+  public void traverseAllRight() {
+    Assert.assertEquals(new Right<>(List.of(2, 4)),
+        Either.<String, Integer, Integer>traverse(List.of(1, 2),
+            x -> new Right<>(x * 2)));
+  }
+
+  @Test
+  public void traverseReturnsFirstLeft() {
+    Assert.assertEquals(new Left<>(2),
+        Either.traverse(new Integer[]{1, 2, 3}, x -> x > 1
+            ? new Left<>(x)
+            : new Right<>(x)));
+  }
+
+  @Test
+  public void sequenceAllRight() {
+    Assert.assertEquals(new Right<>(List.of(1, 2)),
+        Either.sequence(List.<Either<String, Integer>>of(
+            new Right<>(1),
+            new Right<>(2))));
+  }
+
+  @Test
+  public void sequenceWithLeft() {
+    Assert.assertEquals(new Left<>("e"),
+        Either.sequence(List.<Either<String, Integer>>of(
+            new Right<>(1),
+            new Left<>("e"))));
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class ValidationTest {
+
+  @Test
+  public void combineValid() {
+    Assert.assertEquals(new Valid<>(3),
+        Validation.combine(new Valid<>(1), new Valid<>(2), Integer::sum));
+  }
+
+  @Test
+  public void combineAccumulatesErrors() {
+    Assert.assertEquals(new Invalid<>(List.of("a", "b", "c")),
+        Validation.combine(
+            Invalid.<String, Integer>of("a"),
+            new Valid<>(1),
+            new Invalid<String, Integer>(List.of("b", "c")),
+            (x, y, z) -> x + y + z
+        ));
+  }
+
+  @Test
+  public void combineFour() {
+    Assert.assertEquals(new Valid<>("abcd"),
+        Validation.<String, String, String, String, String, String>combine(
+            new Valid<>("a"),
+            new Valid<>("b"),
+            new Valid<>("c"),
+            new Valid<>("d"),
+            (a, b, c, d) -> a + b + c + d
+        ));
+  }
+
+  @Test
+  public void sequence() {
+    Assert.assertEquals(new Invalid<>(List.of(1, 3)),
+        Validation.sequence(List.<Validation<Integer, String>>of(
+            Invalid.of(1),
+            new Valid<>("ok"),
+            Invalid.of(3)
+        )));
+  }
+
+  @Test
+  public void collectParallel() {
+    final int n = 10_000;
+    Assert.assertEquals(
+        new Invalid<>(IntStream.range(0, n).filter(i -> i % 2 == 0).boxed().toList()),
+        IntStream.range(0, n)
+            .parallel()
+            .mapToObj(i -> i % 2 == 0
+                ? Invalid.<Integer, Integer>of(i)
+                : new Valid<Integer, Integer>(i))
+            .collect(EitherCollectors.sequenceValidations())
+    );
+  }
+
+  @Test
+  public void collectValid() {
+    Assert.assertEquals(new Valid<>(List.of(1, 2)),
+        List.<Validation<String, Integer>>of(new Valid<>(1), new Valid<>(2))
+            .stream()
+            .collect(EitherCollectors.sequenceValidations()));
+  }
+
+  @Test
+  public void deepAccumulation() {
+    Validation<Integer, Integer> v = new Valid<>(0);
+    for (int i = 0; i < 100_000; i++) {
+      v = Validation.combine(v, Invalid.<Integer, Integer>of(i), Integer::sum);
+    }
+    Assert.assertEquals(Integer.valueOf(99_999),
+        v.fold(List::getLast, Integer::valueOf));
+  }
+
+  @Test
+  public void mapInvalid() {
+    final Validation<String, Integer> v = Invalid.of("e");
+    Assert.assertSame(v, v.map(x -> x + 1));
+  }
+
+  @Test
+  public void mapErrors() {
+    Assert.assertEquals(new Invalid<>(List.of(1, 2)),
+        new Invalid<>(List.of("a", "bb")).mapErrors(String::length));
+  }
+
+  @Test
+  public void toEither() {
+    Assert.assertEquals(new Left<>(List.of("e")), Invalid.of("e").toEither());
+    Assert.assertEquals(new Right<>(1), new Valid<>(1).toEither());
+  }
+
+  @Test
+  public void fromEither() {
+    Assert.assertEquals(Invalid.of("e"), Validation.fromEither(new Left<>("e")));
+    Assert.assertEquals(new Valid<>(1), Validation.fromEither(new Right<>(1)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidWithoutErrors() {
+    new Invalid<>(List.of());
+  }
+
+  @Test
+  public void invalidCopiesErrors() {
+    final List<String> errors = new ArrayList<>(List.of("a"));
+    final Validation<String, Integer> v = Validation.combine(
+        new Invalid<String, Integer>(errors),
+        Invalid.<String, Integer>of("b"),
+        Integer::sum
+    );
+    errors.add("c");
+    Assert.assertEquals(2, v.fold(List::size, $ -> 0).intValue());
+    Assert.assertEquals(List.of("a", "b"), v.fold(e -> e, $ -> List.of()));
+  }
+}
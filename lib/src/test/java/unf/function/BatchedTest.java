@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class BatchedTest {
+
+  private static final Duration DELAY = Duration.ofMillis(20);
+
+  @Test
+  public void singleCall() {
+    final Function1<Integer, String> f = Function1.batched(
+        keys -> keys.stream().map(String::valueOf).toList(), 8, DELAY);
+    Assert.assertEquals("1", f.apply(1));
+  }
+
+  @Test
+  public void concurrentCallsAreBatched() {
+    final ConcurrentLinkedQueue<List<Integer>> batches
+        = new ConcurrentLinkedQueue<>();
+    final Function1<Integer, Integer> f = Function1.batched(keys -> {
+      batches.add(keys);
+      return keys.stream().map(k -> k * 2).toList();
+    }, 64, DELAY);
+
+    final List<Integer> results = applyConcurrently(f, 1_000, 100);
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      expected.add((i % 100) * 2);
+    }
+    Assert.assertEquals(expected, results);
+    Assert.assertTrue(batches.size() < 1_000);
+  }
+
+  @Test
+  public void batchesHaveDistinctKeysUpToSize() {
+    final ConcurrentLinkedQueue<List<Integer>> batches
+        = new ConcurrentLinkedQueue<>();
+    final Function1<Integer, Integer> f = Function1.batched(keys -> {
+      batches.add(keys);
+      return keys;
+    }, 16, DELAY);
+
+    applyConcurrently(f, 500, 10);
+    final boolean valid = batches.stream().allMatch(batch ->
+        batch.size() <= 16 && new HashSet<>(batch).size() == batch.size());
+    Assert.assertTrue(valid);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void bulkExceptionIsRethrown() {
+    final Function1<Integer, Integer> f = Function1.batched(keys -> {
+      throw new IllegalStateException();
+    }, 4, Duration.ZERO);
+    f.apply(1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void bulkResultOfWrongSize() {
+    final Function1<Integer, Integer> f = Function1.batched(
+        keys -> List.of(), 4, Duration.ZERO);
+    f.apply(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void batchSizeMustBePositive() {
+    Function1.batched(keys -> keys, 0, DELAY);
+  }
+
+  private static List<Integer> applyConcurrently(
+      Function1<Integer, Integer> f,
+      int calls,
+      int distinctKeys
+  ) {
+    final List<Future<Integer>> futures = new ArrayList<>(calls);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < calls; i++) {
+        final int key = i % distinctKeys;
+        futures.add(executor.submit(() -> f.apply(key)));
+      }
+    }
+    final List<Integer> results = new ArrayList<>(calls);
+    for (final Future<Integer> it : futures) {
+      // All tasks have completed when the executor is closed
+      results.add(it.resultNow());
+    }
+    return results;
+  }
+}
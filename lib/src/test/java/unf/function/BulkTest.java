@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+
+public final class BulkTest {
+
+  private static final List<Integer> VALUES = IntStream.range(0, 10_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+  private static final List<Either<RuntimeException, Integer>> DOUBLED
+      = VALUES.stream()
+      .<Either<RuntimeException, Integer>>map(x -> new Right<>(x * 2))
+      .toList();
+
+  @Test
+  public void mapAllSequential() {
+    Assert.assertEquals(DOUBLED,
+        Bulk.mapAll(VALUES, x -> x * 2, Parallelism.sequential()));
+  }
+
+  @Test
+  public void mapAllCpuBound() {
+    Assert.assertEquals(DOUBLED,
+        Bulk.mapAll(VALUES, x -> x * 2, Parallelism.cpuBound()));
+  }
+
+  @Test
+  public void mapAllBlocking() {
+    Assert.assertEquals(DOUBLED,
+        Bulk.mapAll(VALUES, x -> x * 2, Parallelism.blocking(16)));
+  }
+
+  @Test
+  public void mapAllCapturesExceptions() {
+    final IllegalStateException e = new IllegalStateException();
+    final List<Either<RuntimeException, Integer>> results = Bulk.mapAll(
+        List.of(1, 2, 3),
+        x -> {
+          if (x == 2) {
+            throw e;
+          }
+          return x;
+        },
+        Parallelism.cpuBound());
+    Assert.assertEquals(
+        List.of(new Right<>(1), new Left<>(e), new Right<>(3)),
+        results);
+  }
+
+  @Test
+  public void mapAllEmpty() {
+    Assert.assertTrue(Bulk.mapAll(List.<Integer>of(), x -> x,
+        Parallelism.blocking(1)).isEmpty());
+  }
+
+  @Test
+  public void blockingRespectsConcurrencyLimit() {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    Bulk.mapAll(VALUES.subList(0, 200), x -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.yield();
+      running.decrementAndGet();
+      return x;
+    }, Parallelism.blocking(4));
+    Assert.assertTrue(maxRunning.get() <= 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void blockingRequiresPositiveLimit() {
+    Parallelism.blocking(0);
+  }
+
+  @Test
+  public void traverseAllRights() {
+    Assert.assertEquals(
+        new Right<>(VALUES),
+        Bulk.<String, Integer, Integer>traverse(VALUES, Right::new,
+            Parallelism.cpuBound()));
+  }
+
+  @Test
+  public void traverseReturnsFirstLeft() {
+    Assert.assertEquals(
+        new Left<>(5),
+        Bulk.traverse(VALUES,
+            x -> x >= 5 && x % 5 == 0 ? new Left<>(x) : new Right<>(x),
+            Parallelism.sequential()));
+  }
+
+  @Test
+  public void traverseStopsAtLeft() {
+    final AtomicInteger calls = new AtomicInteger();
+    Bulk.traverse(VALUES, x -> {
+      calls.incrementAndGet();
+      return new Left<>(x);
+    }, Parallelism.blocking(1));
+    Assert.assertTrue(calls.get() < VALUES.size());
+  }
+
+  @Test
+  public void traverseLeftInOrderWhenParallel() {
+    final Either<Integer, List<Integer>> result = Bulk.traverse(VALUES,
+        x -> x % 1000 == 999 ? new Left<>(x) : new Right<>(x),
+        Parallelism.cpuBound());
+    // Any left may have stopped the traversal, but the first one found in
+    // order is the one returned
+    Assert.assertTrue(result.fold(x -> x % 1000 == 999, ignored -> false));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void blockingPropagatesUncaughtExceptions() {
+    Bulk.traverse(VALUES, x -> {
+      throw new IllegalStateException();
+    }, Parallelism.blocking(2));
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+import unf.maybe.Just;
+import unf.maybe.Maybe;
+
+public final class LazyTest {
+
+  @Test
+  public void notEvaluatedUntilAccessed() {
+    final Lazy<Integer> lazy = Lazy.of(() -> 1);
+    Assert.assertFalse(lazy.isEvaluated());
+  }
+
+  @Test
+  public void evaluatedOnce() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(calls::incrementAndGet);
+    lazy.apply();
+    Assert.assertEquals(Integer.valueOf(1), lazy.apply());
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void evaluatedOnceConcurrently() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(calls::incrementAndGet);
+    final boolean allSame = IntStream.range(0, 10_000)
+        .parallel()
+        .allMatch(i -> lazy.apply() == 1);
+    Assert.assertTrue(allSame);
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void retriedAfterException() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> lazy = Lazy.of(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException();
+      }
+      return 2;
+    });
+    Assert.assertThrows(IllegalStateException.class, lazy::apply);
+    Assert.assertEquals(Integer.valueOf(2), lazy.apply());
+  }
+
+  @Test
+  public void value() {
+    Assert.assertTrue(Lazy.value("v").isEvaluated());
+  }
+
+  @Test
+  public void mapIsLazy() {
+    final Lazy<Integer> lazy = Lazy.of(() -> 2);
+    final Lazy<Integer> mapped = lazy.map(x -> x * 3);
+    Assert.assertFalse(lazy.isEvaluated());
+    Assert.assertEquals(Integer.valueOf(6), mapped.apply());
+  }
+
+  @Test
+  public void flatMap() {
+    Assert.assertEquals("ab",
+        Lazy.of(() -> "a").flatMap(a -> Lazy.of(() -> a + "b")).apply());
+  }
+
+  @Test
+  public void maybeDefaultNotEvaluated() {
+    final Lazy<String> fallback = Lazy.of(() -> "default");
+    Assert.assertEquals("v", new Just<>("v").orElseGet(fallback));
+    Assert.assertFalse(fallback.isEvaluated());
+  }
+
+  @Test
+  public void maybeDefaultShared() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> fallback = Lazy.of(calls::incrementAndGet);
+    Maybe.<Integer>nothing().orElseGet(fallback);
+    Maybe.<Integer>nothing().fold(Function1.identity(), fallback);
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void eitherDefaultNotEvaluated() {
+    final Lazy<String> fallback = Lazy.of(() -> "default");
+    Assert.assertEquals("v", new Right<Integer, String>("v").orElseGet(fallback));
+    Assert.assertFalse(fallback.isEvaluated());
+  }
+
+  @Test
+  public void eitherDefaultShared() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Lazy<Integer> fallback = Lazy.of(calls::incrementAndGet);
+    new Left<String, Integer>("a").orElseGet(fallback);
+    new Left<String, Integer>("b").orElseGet(fallback);
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void eitherLazyLeft() {
+    final Lazy<String> left = Lazy.of(() -> "missing");
+    Assert.assertEquals(new Right<>(1), Either.fromMaybe(new Just<>(1), left));
+    Assert.assertFalse(left.isEvaluated());
+  }
+
+  @Test
+  public void eitherLazyLeftEvaluated() {
+    Assert.assertEquals(
+        new Left<>("missing"),
+        Either.fromMaybe(Maybe.nothing(), Lazy.of(() -> "missing"))
+    );
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class MemoizeTest {
+
+  @Test
+  public void function1ComputesOnce() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Function1<Integer, Integer> f = Function1.memoize(
+        x -> {
+          calls.incrementAndGet();
+          return x;
+        },
+        new MemoCache<>(10)
+    );
+    f.apply(1);
+    f.apply(1);
+    Assert.assertEquals(Integer.valueOf(1), f.apply(1));
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void stats() {
+    final MemoCache<String, Integer> cache = new MemoCache<>(10);
+    final Function1<String, Integer> f = Function1.memoize(String::length, cache);
+    f.apply("a");
+    f.apply("a");
+    f.apply("bb");
+    Assert.assertEquals(new CacheStats(1, 2, 0), cache.stats());
+  }
+
+  @Test
+  public void nullKey() {
+    final Function1<String, String> f = Function1.memoize(
+        s -> s == null ? "null" : s,
+        new MemoCache<>(10)
+    );
+    Assert.assertEquals("null", f.apply(null));
+  }
+
+  @Test
+  public void boundedSize() {
+    final MemoCache<Integer, Integer> cache = new MemoCache<>(16);
+    final Function1<Integer, Integer> f = Function1.memoize(x -> x * 2, cache);
+    IntStream.range(0, 1_000).forEach(f::apply);
+    Assert.assertEquals(16, cache.size());
+    Assert.assertEquals(1_000 - 16, cache.stats().evictions());
+  }
+
+  @Test
+  public void secondChance() {
+    final MemoCache<Integer, Integer> cache = new MemoCache<>(2);
+    final Function1<Integer, Integer> f = Function1.memoize(x -> x * 2, cache);
+    f.apply(0);
+    f.apply(1);
+    // Read 0 so that it is not the first one to be evicted
+    f.apply(0);
+    f.apply(2);
+    f.apply(0);
+    Assert.assertEquals(2, cache.stats().hits());
+  }
+
+  @Test
+  public void expireAfterWrite() throws InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final Function1<Integer, Integer> f = Function1.memoize(
+        x -> calls.incrementAndGet(),
+        new MemoCache<>(10, Duration.ofMillis(1))
+    );
+    f.apply(0);
+    Thread.sleep(5);
+    f.apply(0);
+    Assert.assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void function2TupledKey() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Function2<Integer, Integer, Integer> f = Function2.memoize(
+        (a, b) -> {
+          calls.incrementAndGet();
+          return a + b;
+        },
+        new MemoCache<>(10)
+    );
+    f.apply(1, 2);
+    f.apply(2, 1);
+    Assert.assertEquals(Integer.valueOf(3), f.apply(1, 2));
+    Assert.assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void function3TupledKey() {
+    final MemoCache<Tuple3<Integer, Integer, Integer>, Integer> cache
+        = new MemoCache<>(10);
+    final Function3<Integer, Integer, Integer, Integer> f = Function3.memoize(
+        (a, b, c) -> a * b * c,
+        cache
+    );
+    f.apply(1, 2, 3);
+    f.apply(1, 2, 3);
+    Assert.assertEquals(1, cache.stats().hits());
+  }
+
+  @Test
+  public void function4TupledKey() {
+    final MemoCache<Tuple4<String, Integer, Integer, String>, Boolean> cache
+        = new MemoCache<>(10);
+    final Function4<String, Integer, Integer, String, Boolean> f
+        = Function4.memoize(
+        (s1, begin, end, s2) -> s1.substring(begin, end).equals(s2),
+        cache
+    );
+    Assert.assertTrue(f.apply("function", 0, 3, "fun"));
+    Assert.assertTrue(f.apply("function", 0, 3, "fun"));
+  }
+
+  @Test
+  public void concurrentLookups() {
+    final MemoCache<Integer, Integer> cache = new MemoCache<>(64);
+    final Function1<Integer, Integer> f = Function1.memoize(x -> x * x, cache);
+    final boolean allCorrect = IntStream.range(0, 100_000)
+        .parallel()
+        .allMatch(i -> f.apply(i % 100) == (i % 100) * (i % 100));
+    Assert.assertTrue(allCorrect);
+    Assert.assertTrue(cache.size() <= 64);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveSize() {
+    new MemoCache<Integer, Integer>(0);
+  }
+}
@@ -56,4 +56,60 @@ public final class PartialAppTest {
         f4.apply(s1, 0, 4, s2)
     );
   }
+
+  @Test
+  public void uncurryRoundTripIsIdentity() {
+    final Function4<Integer, Integer, Integer, Integer, Integer> f4
+        = (a, b, c, d) -> a + b + c + d;
+    Assert.assertSame(f4, Function4.uncurry(f4));
+  }
+
+  @Test
+  public void uncurryPartialApplication() {
+    final Function4<Integer, Integer, Integer, Integer, Integer> f4
+        = (a, b, c, d) -> a * 1000 + b * 100 + c * 10 + d;
+    final Function3<Integer, Integer, Integer, Integer> f3 = f4.apply(1);
+    Assert.assertSame(f3, Function3.uncurry(f3));
+    Assert.assertEquals(Integer.valueOf(1234), f3.apply(2, 3, 4));
+  }
+
+  @Test
+  public void partialApplicationIsReusable() {
+    final Function4<Integer, Integer, Integer, Integer, Integer> f4
+        = (a, b, c, d) -> a * 1000 + b * 100 + c * 10 + d;
+    final Function2<Integer, Integer, Integer> f2 = f4.apply(1).apply(2);
+    Assert.assertEquals(Integer.valueOf(1234), f2.apply(3, 4));
+    Assert.assertEquals(Integer.valueOf(1256), f2.apply(5).apply(6));
+  }
+
+  @Test
+  public void partialApplicationOfFunction3() {
+    final Function3<String, String, String, String> f3
+        = (a, b, c) -> a + b + c;
+    Assert.assertEquals("abc", f3.apply("a").apply("b", "c"));
+    Assert.assertEquals("abc", f3.apply("a", "b").apply("c"));
+  }
+
+  @Test
+  public void tupled() {
+    final Function2<Integer, String, String> f2 = (n, s) -> s.repeat(n);
+    Assert.assertEquals("abab",
+        Function2.tupled(f2).apply(new Tuple2<>(2, "ab")));
+  }
+
+  @Test
+  public void untupled() {
+    final Function1<Tuple3<Integer, Integer, Integer>, Integer> f
+        = t -> t.first() + t.second() + t.third();
+    Assert.assertEquals(Integer.valueOf(6),
+        Function3.untupled(f).apply(1, 2, 3));
+  }
+
+  @Test
+  public void tupledRoundTrip() {
+    final Function4<Integer, Integer, Integer, Integer, Integer> f4
+        = (a, b, c, d) -> a - b - c - d;
+    Assert.assertEquals(Integer.valueOf(4),
+        Function4.untupled(Function4.tupled(f4)).apply(10, 3, 2, 1));
+  }
 }
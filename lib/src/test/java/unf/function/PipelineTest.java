@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.function;
+
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class PipelineTest {
+
+  private static final Function1<Integer, Integer> PLUS_ONE = x -> x + 1;
+  private static final Function1<Integer, Integer> TWICE = x -> x * 2;
+
+  @Test
+  public void thenOrder() {
+    Assert.assertEquals(Integer.valueOf(4),
+        Pipeline.of(PLUS_ONE).then(TWICE).apply(1));
+  }
+
+  @Test
+  public void composeOrder() {
+    Assert.assertEquals(Integer.valueOf(3),
+        Pipeline.of(PLUS_ONE).compose(TWICE).apply(1));
+  }
+
+  @Test
+  public void changesType() {
+    final Function1<String, Integer> length = String::length;
+    Assert.assertEquals("3",
+        Pipeline.of(length).then(Object::toString).apply("abc"));
+  }
+
+  @Test
+  public void identity() {
+    Assert.assertEquals(Integer.valueOf(7),
+        Pipeline.<Integer>identity().apply(7));
+  }
+
+  @Test
+  public void flattensPipelines() {
+    final Pipeline<Integer, Integer> p = Pipeline.of(PLUS_ONE).then(TWICE);
+    Assert.assertEquals(4, p.then(p).size());
+  }
+
+  @Test
+  public void ofPipelineIsSame() {
+    final Pipeline<Integer, Integer> p = Pipeline.of(PLUS_ONE);
+    Assert.assertSame(p, Pipeline.of(p));
+  }
+
+  @Test
+  public void deepThenIsStackSafe() {
+    Pipeline<Integer, Integer> p = Pipeline.identity();
+    for (int i = 0; i < 20_000; i++) {
+      p = p.then(PLUS_ONE);
+    }
+    Assert.assertEquals(Integer.valueOf(20_000), p.apply(0));
+  }
+
+  @Test
+  public void chain() {
+    Assert.assertEquals(Integer.valueOf(1_000_000),
+        Pipeline.chain(Collections.nCopies(1_000_000, PLUS_ONE)).apply(0));
+  }
+
+  @Test
+  public void branchesAreIndependent() {
+    final Pipeline<Integer, Integer> p = Pipeline.of(PLUS_ONE).then(PLUS_ONE);
+    final Pipeline<Integer, Integer> plusOne = p.then(PLUS_ONE);
+    final Pipeline<Integer, Integer> twice = p.then(TWICE);
+    Assert.assertEquals(Integer.valueOf(3), plusOne.apply(0));
+    Assert.assertEquals(Integer.valueOf(4), twice.apply(0));
+  }
+
+  @Test
+  public void thenSelf() {
+    Pipeline<Integer, Integer> p = Pipeline.of(PLUS_ONE);
+    for (int i = 0; i < 4; i++) {
+      p = p.then(p);
+    }
+    Assert.assertEquals(Integer.valueOf(16), p.apply(0));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.Allocations;
+import unf.function.Function0;
+import unf.function.Function1;
+
+public final class MaybeAllocationTest {
+
+  private static final Maybe<String> JUST = new Just<>("unf");
+  private static final Maybe<String> NOTHING = Maybe.nothing();
+  private static final Maybe<String> OTHER = new Just<>("other");
+  private static final Function1<String, String> ID = Function1.identity();
+  private static final Function0<String> DEFAULT = () -> "default";
+
+  @Test
+  public void justFold() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> JUST.fold(ID, DEFAULT)));
+  }
+
+  @Test
+  public void nothingFold() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> NOTHING.fold(ID, DEFAULT)));
+  }
+
+  @Test
+  public void justMap() {
+    Assert.assertTrue(Allocations.bytesPerOp(() -> JUST.map(ID))
+        <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void nothingMap() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> NOTHING.map(ID)));
+  }
+
+  @Test
+  public void justFlatMap() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> JUST.flatMap($ -> OTHER)));
+  }
+
+  @Test
+  public void nothingFlatMap() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> NOTHING.flatMap($ -> OTHER)));
+  }
+
+  @Test
+  public void nothingFactory() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(Maybe::nothing));
+  }
+
+  @Test
+  public void nothingChain() {
+    Assert.assertEquals(0L, Allocations.bytesPerOp(
+        () -> NOTHING.flatMap($ -> OTHER).map(ID).flatMap($ -> OTHER)
+    ));
+  }
+}
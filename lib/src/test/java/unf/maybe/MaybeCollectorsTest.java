@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class MaybeCollectorsTest {
+
+  private static final List<Maybe<Integer>> VALUES = List.of(
+      Maybe.nothing(),
+      new Just<>(1),
+      Maybe.nothing(),
+      new Just<>(2)
+  );
+
+  @Test
+  public void catMaybes() {
+    Assert.assertEquals(List.of(1, 2),
+        VALUES.stream().collect(MaybeCollectors.catMaybes()));
+  }
+
+  @Test
+  public void catMaybesParallel() {
+    Assert.assertEquals(
+        IntStream.range(0, 10_000).filter(i -> i % 3 == 0).boxed().toList(),
+        IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> i % 3 == 0 ? new Just<>(i) : Maybe.<Integer>nothing())
+            .collect(MaybeCollectors.catMaybes())
+    );
+  }
+
+  @Test
+  public void firstJust() {
+    Assert.assertEquals(new Just<>(1),
+        VALUES.stream().collect(MaybeCollectors.firstJust()));
+  }
+
+  @Test
+  public void firstJustParallel() {
+    Assert.assertEquals(new Just<>(5_000),
+        IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> i >= 5_000 ? new Just<>(i) : Maybe.<Integer>nothing())
+            .collect(MaybeCollectors.firstJust())
+    );
+  }
+
+  @Test
+  public void firstJustEmpty() {
+    Assert.assertEquals(Maybe.nothing(),
+        List.<Maybe<Integer>>of().stream().collect(MaybeCollectors.firstJust()));
+  }
+
+  @Test
+  public void catMaybesBulk() {
+    Assert.assertEquals(List.of(1, 2), Maybe.catMaybes(VALUES));
+  }
+
+  @Test
+  public void firstJustBulk() {
+    Assert.assertEquals(new Just<>(1), Maybe.firstJust(VALUES));
+  }
+}
@@ -6,6 +6,7 @@
 
 package unf.maybe;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
@@ -28,6 +29,16 @@ public final class MaybeTest {
         new Nothing<>().flatMap($ -> new Nothing<>()));
   }
 
+  @Test
+  public void nothingFactoryIsShared() {
+    Assert.assertSame(Maybe.nothing(), Maybe.<Integer>nothing().map($ -> 1));
+  }
+
+  @Test
+  public void nothingFactoryEqualsNothing() {
+    Assert.assertEquals(new Nothing<>(), Maybe.nothing());
+  }
+
   @Test
   public void justMap() {
     Assert.assertEquals(new Just<>(0), new Just<>(1).map($ -> 0));
@@ -74,4 +85,45 @@ public final class MaybeTest {
   public void nothingStreamLenOne() {
     Assert.assertEquals(0, new Nothing<>().stream().count());
   }
+
+  @Test
+  public void traverseAllJust() {
+    Assert.assertEquals(new Just<>(List.of(2, 4, 6)),
+        Maybe.traverse(List.of(1, 2, 3), x -> new Just<>(x * 2)));
+  }
+
+  @Test
+  public void traverseStopsAtNothing() {
+    final AtomicInteger i = new AtomicInteger(0);
+    Assert.assertEquals(Maybe.nothing(),
+        Maybe.traverse(List.of(1, 2, 3), x -> i.incrementAndGet() < 2
+            ? new Just<>(x)
+            : Maybe.nothing()));
+    Assert.assertEquals(2, i.get());
+  }
+
+  @Test
+  public void traverseArray() {
+    Assert.assertEquals(new Just<>(List.of("a", "b")),
+        Maybe.traverse(new String[]{"a", "b"}, Just::new));
+  }
+
+  @Test
+  public void traverseIterable() {
+    final Iterable<Integer> it = () -> List.of(1, 2).iterator();
+    Assert.assertEquals(new Just<>(List.of(1, 2)),
+        Maybe.traverse(it, Just::new));
+  }
+
+  @Test
+  public void sequenceAllJust() {
+    Assert.assertEquals(new Just<>(List.of(1, 2)),
+        Maybe.sequence(List.of(new Just<>(1), new Just<>(2))));
+  }
+
+  @Test
+  public void sequenceWithNothing() {
+    Assert.assertEquals(Maybe.nothing(),
+        Maybe.sequence(List.of(new Just<>(1), Maybe.nothing())));
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.maybe;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class PrimitiveMaybeTest {
+
+  @Test
+  public void justIntMap() {
+    Assert.assertEquals(new JustInt(2), new JustInt(1).map(x -> x + 1));
+  }
+
+  @Test
+  public void nothingIntMap() {
+    Assert.assertEquals(new NothingInt(), new NothingInt().map(x -> x + 1));
+  }
+
+  @Test
+  public void justIntFlatMap() {
+    Assert.assertEquals(new NothingInt(),
+        new JustInt(1).flatMap($ -> new NothingInt()));
+  }
+
+  @Test
+  public void nothingIntFlatMap() {
+    Assert.assertEquals(new NothingInt(),
+        new NothingInt().flatMap(JustInt::new));
+  }
+
+  @Test
+  public void justIntFold() {
+    Assert.assertEquals("1", new JustInt(1).fold(Integer::toString, () -> ""));
+  }
+
+  @Test
+  public void nothingIntOrElse() {
+    Assert.assertEquals(7, new NothingInt().orElse(7));
+  }
+
+  @Test
+  public void justIntStream() {
+    Assert.assertEquals(3, new JustInt(3).stream().sum());
+  }
+
+  @Test
+  public void nothingIntStream() {
+    Assert.assertEquals(0, new NothingInt().stream().count());
+  }
+
+  @Test
+  public void intToMaybe() {
+    Assert.assertEquals(new Just<>(4), new JustInt(4).toMaybe());
+    Assert.assertEquals(new Nothing<>(), new NothingInt().toMaybe());
+  }
+
+  @Test
+  public void intFromMaybe() {
+    Assert.assertEquals(new JustInt(4), MaybeInt.fromMaybe(new Just<>(4)));
+    Assert.assertEquals(new NothingInt(), MaybeInt.fromMaybe(new Nothing<>()));
+  }
+
+  @Test
+  public void justLongMap() {
+    Assert.assertEquals(new JustLong(20L), new JustLong(10L).map(x -> x * 2));
+  }
+
+  @Test
+  public void nothingLongOrElse() {
+    Assert.assertEquals(5L, new NothingLong().orElse(5L));
+  }
+
+  @Test
+  public void longConversions() {
+    Assert.assertEquals(new JustLong(3L),
+        MaybeLong.fromMaybe(new JustLong(3L).toMaybe()));
+  }
+
+  @Test
+  public void justDoubleMap() {
+    Assert.assertEquals(1.5, new JustDouble(3.0).map(x -> x / 2).orElse(0), 0);
+  }
+
+  @Test
+  public void nothingDoubleFold() {
+    Assert.assertEquals("none",
+        new NothingDouble().fold(Double::toString, () -> "none"));
+  }
+
+  @Test
+  public void doubleConversions() {
+    Assert.assertEquals(new NothingDouble(),
+        MaybeDouble.fromMaybe(new NothingDouble().toMaybe()));
+  }
+}
@@ -63,4 +63,28 @@ public final class AffineTraversalTest {
         AFFINE_TRAVERSAL_LIST_FIRST.preview(s)
     );
   }
+
+  @Test
+  public void overUnchanged() {
+    final List<Character> s = List.of('h', 'i');
+    Assert.assertEquals(s, AFFINE_TRAVERSAL_LIST_FIRST.over(c -> c, s));
+  }
+
+  @Test
+  public void previewOrElse() {
+    Assert.assertEquals(
+        Character.valueOf('h'),
+        AFFINE_TRAVERSAL_LIST_FIRST.previewOrElse('?', List.of('h', 'i'))
+    );
+    Assert.assertEquals(
+        Character.valueOf('?'),
+        AFFINE_TRAVERSAL_LIST_FIRST.previewOrElse('?', List.of())
+    );
+  }
+
+  @Test
+  public void overEmpty() {
+    final List<Character> s = List.of();
+    Assert.assertSame(s, AFFINE_TRAVERSAL_LIST_FIRST.over(c -> 'c', s));
+  }
 }
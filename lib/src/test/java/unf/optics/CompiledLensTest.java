@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.function.Function1;
+
+public final class CompiledLensTest {
+
+  private static final Lens<Node, Node, Integer, Integer> VALUE
+      = new Lens<>() {
+    @Override
+    public Node over(Function1<Integer, Integer> lift, Node source) {
+      return new Node(lift.apply(source.value), source.next);
+    }
+
+    @Override
+    public Integer view(Node source) {
+      return source.value;
+    }
+  };
+
+  private static final Lens<Node, Node, Node, Node> NEXT = new Lens<>() {
+    @Override
+    public Node over(Function1<Node, Node> lift, Node source) {
+      return new Node(source.value, lift.apply(source.next));
+    }
+
+    @Override
+    public Node view(Node source) {
+      return source.next;
+    }
+  };
+
+  private static final Lens<Node, Node, String, String> VALUE_STR
+      = new Lens<>() {
+    @Override
+    public Node over(Function1<String, String> lift, Node source) {
+      return new Node(Integer.parseInt(lift.apply(String.valueOf(source.value))),
+          source.next);
+    }
+
+    @Override
+    public String view(Node source) {
+      return String.valueOf(source.value);
+    }
+  };
+
+  private record Node(int value, Node next) {
+  }
+
+  private static Node chain(int depth) {
+    Node node = null;
+    for (int i = 0; i < depth; i++) {
+      node = new Node(i, node);
+    }
+    return node;
+  }
+
+  private static Lens<Node, Node, Integer, Integer> nested(int depth) {
+    Lens<Node, Node, Integer, Integer> lens = VALUE;
+    for (int i = 1; i < depth; i++) {
+      lens = NEXT.focus(lens);
+    }
+    return lens;
+  }
+
+  @Test
+  public void notComposed() {
+    Assert.assertSame(VALUE, VALUE.compile());
+  }
+
+  @Test
+  public void view() {
+    for (int depth = 1; depth <= 7; depth++) {
+      final Lens<Node, Node, Integer, Integer> lens = nested(depth);
+      Assert.assertEquals(lens.view(chain(depth)),
+          lens.compile().view(chain(depth)));
+    }
+  }
+
+  @Test
+  public void over() {
+    for (int depth = 1; depth <= 7; depth++) {
+      final Lens<Node, Node, Integer, Integer> lens = nested(depth);
+      Assert.assertEquals(lens.over(x -> x + 10, chain(depth)),
+          lens.compile().over(x -> x + 10, chain(depth)));
+    }
+  }
+
+  @Test
+  public void set() {
+    for (int depth = 1; depth <= 7; depth++) {
+      final Lens<Node, Node, Integer, Integer> lens = nested(depth);
+      Assert.assertEquals(lens.set(42, chain(depth)),
+          lens.compile().set(42, chain(depth)));
+    }
+  }
+
+  @Test
+  public void composeCompiled() {
+    final Lens<Node, Node, Integer, Integer> lens
+        = NEXT.focus(NEXT).compile().focus(VALUE).compile();
+    Assert.assertEquals(nested(3).set(0, chain(3)), lens.set(0, chain(3)));
+  }
+
+  @Test
+  public void mixedFocusTypes() {
+    final Lens<Node, Node, String, String> lens = NEXT.focus(VALUE_STR);
+    Assert.assertEquals(lens.over(s -> s + "1", chain(2)),
+        lens.compile().over(s -> s + "1", chain(2)));
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.Assert;
+import org.junit.Test;
+import unf.function.Function1;
+import unf.function.Function2;
+import unf.function.Monoid;
+import unf.maybe.Just;
+import unf.maybe.JustInt;
+import unf.maybe.JustLong;
+import unf.maybe.Maybe;
+
+public final class FoldTest {
+
+  private static final List<Integer> VALUES = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+
+  /**
+   * Fold relying on the default, foldMap-based, queries.
+   */
+  private static final Fold<List<Integer>, Integer> FOLD_LIST = new Fold<>() {
+    @Override
+    public <R> R foldMap(
+        R neutralElement,
+        Function2<R, R, R> reducer,
+        Function1<Integer, R> map,
+        List<Integer> source
+    ) {
+      R result = neutralElement;
+      for (final Integer it : source) {
+        result = reducer.apply(result, map.apply(it));
+      }
+      return result;
+    }
+  };
+
+  /**
+   * Fold that visits its targets one at a time and stops early.
+   */
+  private static <A> Fold<List<A>, A> elements(AtomicInteger visited) {
+    return new Fold<>() {
+      @Override
+      public <R> R foldMap(
+          R neutralElement,
+          Function2<R, R, R> reducer,
+          Function1<A, R> map,
+          List<A> source
+      ) {
+        R result = neutralElement;
+        for (final A it : source) {
+          visited.incrementAndGet();
+          result = reducer.apply(result, map.apply(it));
+        }
+        return result;
+      }
+
+      @Override
+      public Maybe<A> find(Function1<A, Boolean> predicate, List<A> source) {
+        for (final A it : source) {
+          visited.incrementAndGet();
+          if (predicate.apply(it)) {
+            return new Just<>(it);
+          }
+        }
+        return Maybe.nothing();
+      }
+    };
+  }
+
+  @Test
+  public void findByFoldMap() {
+    Assert.assertEquals(new Just<>(5), FOLD_LIST.find(x -> x > 4, VALUES));
+  }
+
+  @Test
+  public void findByFoldMapEvaluatesPredicateUntilMatch() {
+    final AtomicInteger calls = new AtomicInteger();
+    FOLD_LIST.find(x -> calls.incrementAndGet() > 0 && x == 4, VALUES);
+    Assert.assertEquals(3, calls.get());
+  }
+
+  @Test
+  public void findNothing() {
+    Assert.assertTrue(FOLD_LIST.find(x -> x > 9, VALUES).isEmpty());
+  }
+
+  @Test
+  public void anyAll() {
+    Assert.assertTrue(FOLD_LIST.any(x -> x == 9, VALUES));
+    Assert.assertFalse(FOLD_LIST.all(x -> x < 9, VALUES));
+  }
+
+  @Test
+  public void first() {
+    Assert.assertEquals(new Just<>(3), FOLD_LIST.first(VALUES));
+  }
+
+  @Test
+  public void isEmpty() {
+    Assert.assertTrue(FOLD_LIST.isEmpty(List.of()));
+    Assert.assertFalse(FOLD_LIST.isEmpty(VALUES));
+  }
+
+  @Test
+  public void count() {
+    Assert.assertEquals(VALUES.size(), FOLD_LIST.count(VALUES));
+  }
+
+  @Test
+  public void anyStopsEarly() {
+    final AtomicInteger visited = new AtomicInteger();
+    FoldTest.<Integer>elements(visited).any(x -> x == 4, VALUES);
+    Assert.assertEquals(3, visited.get());
+  }
+
+  @Test
+  public void allStopsEarly() {
+    final AtomicInteger visited = new AtomicInteger();
+    FoldTest.<Integer>elements(visited).all(x -> x > 2, VALUES);
+    Assert.assertEquals(2, visited.get());
+  }
+
+  @Test
+  public void focusStopsEarly() {
+    final AtomicInteger visited = new AtomicInteger();
+    final Fold<List<List<Integer>>, Integer> fold
+        = FoldTest.<List<Integer>>elements(visited).focus(elements(visited));
+    final Maybe<Integer> found = fold.find(x -> x == 4,
+        List.of(List.of(1, 2), List.of(3, 4, 5), List.of(6)));
+    Assert.assertEquals(new Just<>(4), found);
+    // 2 outer lists and 2 + 2 elements
+    Assert.assertEquals(6, visited.get());
+  }
+
+  @Test
+  public void affineFind() {
+    final Getter<String, Integer> length = String::length;
+    Assert.assertEquals(new Just<>(3), length.find(x -> x > 2, "unf"));
+    Assert.assertTrue(length.find(x -> x > 3, "unf").isEmpty());
+  }
+
+  @Test
+  public void affineCount() {
+    final Getter<String, Integer> length = String::length;
+    Assert.assertEquals(1, length.count("unf"));
+  }
+
+  @Test
+  public void stream() {
+    Assert.assertEquals(VALUES, FOLD_LIST.stream(VALUES).toList());
+  }
+
+  @Test
+  public void streamIsLazy() {
+    final AtomicInteger visited = new AtomicInteger();
+    final List<Integer> firstTwo = FoldTest.<Integer>elements(visited)
+        .stream(VALUES)
+        .limit(2)
+        .toList();
+    Assert.assertEquals(List.of(3, 1), firstTwo);
+    Assert.assertTrue(visited.get() < VALUES.size());
+  }
+
+  @Test
+  public void streamTakeWhile() {
+    Assert.assertEquals(List.of(3, 1, 4, 1, 5),
+        FOLD_LIST.stream(VALUES).takeWhile(x -> x < 9).toList());
+  }
+
+  @Test
+  public void parallelStream() {
+    final List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+    Assert.assertEquals(values,
+        FOLD_LIST.stream(values).parallel().map(x -> x).toList());
+  }
+
+  @Test
+  public void spliteratorSplits() {
+    final List<Integer> values = IntStream.range(0, 100).boxed().toList();
+    final Spliterator<Integer> spliterator = FOLD_LIST.spliterator(values);
+    final List<Integer> collected = new ArrayList<>();
+    spliterator.tryAdvance(collected::add);
+    spliterator.trySplit().forEachRemaining(collected::add);
+    spliterator.forEachRemaining(collected::add);
+    Assert.assertEquals(values, collected);
+  }
+
+  @Test
+  public void spliteratorSplitsEvenly() {
+    final List<Integer> values = IntStream.range(0, 1_000).boxed().toList();
+    final Spliterator<Integer> spliterator = FOLD_LIST.spliterator(values);
+    Assert.assertEquals(500L, spliterator.trySplit().getExactSizeIfKnown());
+    Assert.assertEquals(500L, spliterator.getExactSizeIfKnown());
+  }
+
+  @Test
+  public void spliteratorAdvanceIsLinear() {
+    final AtomicInteger visited = new AtomicInteger();
+    final List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+    final Spliterator<Integer> spliterator = FoldTest.<Integer>elements(visited)
+        .spliterator(values);
+    final int[] count = {0};
+    while (spliterator.tryAdvance($ -> count[0]++)) {
+      // Pull one target at a time
+    }
+    Assert.assertEquals(values.size(), count[0]);
+    Assert.assertTrue(visited.get() <= 4 * values.size());
+  }
+
+  @Test
+  public void focusStream() {
+    final AtomicInteger visited = new AtomicInteger();
+    final Fold<List<List<Integer>>, Integer> fold
+        = FoldTest.<List<Integer>>elements(visited).focus(elements(visited));
+    Assert.assertEquals(List.of(1, 2, 3, 4, 5, 6),
+        fold.stream(List.of(List.of(1, 2), List.of(3, 4, 5), List.of(6)))
+            .toList());
+  }
+
+  @Test
+  public void affineStream() {
+    final Getter<String, Integer> length = String::length;
+    Assert.assertEquals(List.of(3), length.stream("unf").toList());
+  }
+
+  @Test
+  public void foldMapMonoid() {
+    Assert.assertEquals(Integer.valueOf(31),
+        FOLD_LIST.foldMap(Monoid.of(0, Integer::sum), x -> x, VALUES));
+  }
+
+  @Test
+  public void foldMapParallel() {
+    final List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+    Assert.assertEquals(
+        FOLD_LIST.foldMap(Monoid.of(0L, Long::sum), Long::valueOf, values),
+        FOLD_LIST.foldMapParallel(Monoid.of(0L, Long::sum), Long::valueOf,
+            values, 100)
+    );
+  }
+
+  @Test
+  public void foldMapParallelKeepsOrder() {
+    final List<Integer> values = IntStream.range(0, 5_000).boxed().toList();
+    final Monoid<String> concat = Monoid.of("", String::concat);
+    Assert.assertEquals(
+        FOLD_LIST.foldMap(concat, String::valueOf, values),
+        FOLD_LIST.foldMapParallel(concat, String::valueOf, values, 16)
+    );
+  }
+
+  @Test
+  public void foldMapParallelBelowThresholdIsSequential() {
+    final Thread caller = Thread.currentThread();
+    final Fold<List<Integer>, Integer> fold = new Fold<>() {
+      @Override
+      public <R> R foldMap(
+          R neutralElement,
+          Function2<R, R, R> reducer,
+          Function1<Integer, R> map,
+          List<Integer> source
+      ) {
+        return FOLD_LIST.foldMap(neutralElement, reducer, map, source);
+      }
+
+      @Override
+      public Spliterator<Integer> spliterator(List<Integer> source) {
+        return source.spliterator();
+      }
+    };
+    final boolean sameThread = fold.foldMapParallel(
+        Monoid.of(true, Boolean::logicalAnd),
+        x -> Thread.currentThread() == caller,
+        VALUES,
+        VALUES.size() + 1
+    );
+    Assert.assertTrue(sameThread);
+  }
+
+  @Test
+  public void foldMapLong() {
+    Assert.assertEquals(3L * 1 * 4 * 1 * 5 * 9 * 2 * 6,
+        FOLD_LIST.foldMapLong(1L, (a, b) -> a * b, x -> x, VALUES));
+  }
+
+  @Test
+  public void sum() {
+    Assert.assertEquals(31, FOLD_LIST.sumInt(x -> x, VALUES));
+    Assert.assertEquals(15.5, FOLD_LIST.sumDouble(x -> x / 2.0, VALUES), 0.0);
+  }
+
+  @Test
+  public void minMax() {
+    Assert.assertEquals(new JustLong(1L),
+        FOLD_LIST.minLong(x -> x, VALUES));
+    Assert.assertEquals(new JustInt(9),
+        FOLD_LIST.maxInt(x -> x, VALUES));
+  }
+
+  @Test
+  public void minMaxEmpty() {
+    Assert.assertTrue(FOLD_LIST.minDouble(x -> x, List.of()).isEmpty());
+  }
+}
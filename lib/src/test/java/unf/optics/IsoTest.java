@@ -2,6 +2,7 @@ package unf.optics;
 
 import org.junit.Assert;
 import org.junit.Test;
+import unf.function.Function1;
 
 public final class IsoTest {
 
@@ -71,4 +72,26 @@ public final class IsoTest {
         ISO_REC_S.focus(ISO_STR_PAR).review(ISO_STR_PAR.view(r.s))
     );
   }
+
+  @Test
+  public void overUnchanged() {
+    final Rec s = new Rec("unf");
+    Assert.assertEquals(s, ISO_REC_S.over(x -> x, s));
+  }
+
+  @Test
+  public void overTypeChanging() {
+    final Iso<String, StringBuilder, String, String> iso = new Iso<>() {
+      @Override
+      public String view(String source) {
+        return source;
+      }
+
+      @Override
+      public StringBuilder review(String value) {
+        return new StringBuilder(value);
+      }
+    };
+    Assert.assertEquals("hi", iso.over(Function1.identity(), "hi").toString());
+  }
 }
@@ -90,4 +90,20 @@ public final class LensTest {
         LENS_REC_A.focus(LENS_SQRT).over(f, s)
     );
   }
+
+  @Test
+  public void setTypeChanging() {
+    final Lens<String, StringBuilder, String, String> lens = new Lens<>() {
+      @Override
+      public StringBuilder over(Function1<String, String> lift, String source) {
+        return new StringBuilder(lift.apply(source));
+      }
+
+      @Override
+      public String view(String source) {
+        return source;
+      }
+    };
+    Assert.assertEquals("hi", lens.set("hi", "hi").toString());
+  }
 }
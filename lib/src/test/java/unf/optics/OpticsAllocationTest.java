@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.Allocations;
+import unf.either.Either;
+import unf.either.Left;
+import unf.either.Right;
+import unf.function.Function1;
+import unf.maybe.Just;
+import unf.maybe.Maybe;
+
+public final class OpticsAllocationTest {
+
+  private static final Lens<Rec, Rec, Rec, Rec> LENS_REC_NEXT = new Lens<>() {
+    @Override
+    public Rec over(Function1<Rec, Rec> lift, Rec source) {
+      return new Rec(source.s, lift.apply(source.next));
+    }
+
+    @Override
+    public Rec view(Rec source) {
+      return source.next;
+    }
+  };
+
+  private static final Lens<Rec, Rec, String, String> LENS_REC_S = new Lens<>() {
+    @Override
+    public Rec over(Function1<String, String> lift, Rec source) {
+      return new Rec(lift.apply(source.s), source.next);
+    }
+
+    @Override
+    public String view(Rec source) {
+      return source.s;
+    }
+  };
+
+  private static final Getter<Rec, String> GETTER_NEXT_S
+      = ((Getter<Rec, Rec>) LENS_REC_NEXT).focus(LENS_REC_S);
+
+  private static final AffineFold<Rec, String> AFFINE_FOLD_NEXT_S
+      = ((AffineFold<Rec, Rec>) LENS_REC_NEXT).focus(LENS_REC_S);
+
+  private static final Prism<Maybe<Maybe<String>>, Maybe<Maybe<String>>, String, String>
+      PRISM_JUST_JUST = OpticsAllocationTest.<Maybe<String>>justPrism()
+      .focus(justPrism());
+
+  private static final Rec REC = new Rec("a", new Rec("b", null));
+
+  private static final Maybe<Maybe<String>> JUST_JUST = new Just<>(new Just<>("a"));
+
+  private record Rec(String s, Rec next) {
+  }
+
+  private static <A> Prism<Maybe<A>, Maybe<A>, A, A> justPrism() {
+    return new Prism<>() {
+      @Override
+      public Either<Maybe<A>, A> matching(Maybe<A> source) {
+        return source.fold(Right::new, () -> new Left<>(source));
+      }
+
+      @Override
+      public Maybe<A> preview(Maybe<A> source) {
+        return source;
+      }
+
+      @Override
+      public Maybe<A> review(A value) {
+        return new Just<>(value);
+      }
+    };
+  }
+
+  @Test
+  public void lensView() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> LENS_REC_S.view(REC)));
+  }
+
+  @Test
+  public void composedLensView() {
+    final Lens<Rec, Rec, String, String> lens = LENS_REC_NEXT.focus(LENS_REC_S);
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> lens.view(REC)));
+  }
+
+  @Test
+  public void getterFocusView() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> GETTER_NEXT_S.view(REC)));
+  }
+
+  @Test
+  public void lensMatching() {
+    Assert.assertTrue(Allocations.bytesPerOp(() -> LENS_REC_S.matching(REC))
+        <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void getterPreview() {
+    Assert.assertTrue(Allocations.bytesPerOp(() -> GETTER_NEXT_S.preview(REC))
+        <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void getterPreviewOrElse() {
+    Assert.assertEquals(0L,
+        Allocations.bytesPerOp(() -> GETTER_NEXT_S.previewOrElse("", REC)));
+  }
+
+  @Test
+  public void lensFoldMap() {
+    Assert.assertEquals(0L, Allocations.bytesPerOp(
+        () -> LENS_REC_S.foldMap("", String::concat, Function1.identity(), REC)
+    ));
+  }
+
+  @Test
+  public void affineFoldFocusPreview() {
+    Assert.assertTrue(Allocations.bytesPerOp(
+        () -> AFFINE_FOLD_NEXT_S.preview(REC)
+    ) <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void affineFoldFocusPreviewOrElse() {
+    Assert.assertEquals(0L, Allocations.bytesPerOp(
+        () -> AFFINE_FOLD_NEXT_S.previewOrElse("", REC)
+    ));
+  }
+
+  @Test
+  public void prismFocusPreview() {
+    Assert.assertTrue(Allocations.bytesPerOp(
+        () -> PRISM_JUST_JUST.preview(JUST_JUST)
+    ) <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void prismFocusPreviewOrElse() {
+    Assert.assertEquals(0L, Allocations.bytesPerOp(
+        () -> PRISM_JUST_JUST.previewOrElse("", JUST_JUST)
+    ));
+  }
+
+  @Test
+  public void prismFocusMatching() {
+    Assert.assertTrue(Allocations.bytesPerOp(
+        () -> PRISM_JUST_JUST.matching(JUST_JUST)
+    ) <= Allocations.OBJECT);
+  }
+
+  @Test
+  public void lensOver() {
+    Assert.assertTrue(Allocations.bytesPerOp(
+        () -> LENS_REC_S.over(Function1.identity(), REC)
+    ) <= Allocations.OBJECT);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import unf.function.Function1;
+import unf.function.IntUnaryFunction1;
+
+public final class PrimitiveLensTest {
+
+  private static final IntLens<Rec> LENS_REC_A = new IntLens<>() {
+    @Override
+    public int viewInt(Rec source) {
+      return source.a;
+    }
+
+    @Override
+    public Rec overInt(IntUnaryFunction1 lift, Rec source) {
+      return new Rec(lift.applyAsInt(source.a), source.b);
+    }
+  };
+
+  private static final Lens<Outer, Outer, Rec, Rec> LENS_OUTER_REC
+      = new Lens<>() {
+    @Override
+    public Outer over(Function1<Rec, Rec> lift, Outer source) {
+      return new Outer(lift.apply(source.rec));
+    }
+
+    @Override
+    public Rec view(Outer source) {
+      return source.rec;
+    }
+  };
+
+  private record Rec(int a, String b) {
+  }
+
+  private record Outer(Rec rec) {
+  }
+
+  @Test
+  public void viewInt() {
+    Assert.assertEquals(3, LENS_REC_A.viewInt(new Rec(3, "")));
+  }
+
+  @Test
+  public void setInt() {
+    Assert.assertEquals(new Rec(7, "b"), LENS_REC_A.setInt(7, new Rec(1, "b")));
+  }
+
+  @Test
+  public void boxedView() {
+    Assert.assertEquals(Integer.valueOf(3), LENS_REC_A.view(new Rec(3, "")));
+  }
+
+  @Test
+  public void boxedOver() {
+    Assert.assertEquals(new Rec(2, "b"),
+        LENS_REC_A.over(x -> x * 2, new Rec(1, "b")));
+  }
+
+  @Test
+  public void focus() {
+    final IntLens<Outer> lens = IntLens.focus(LENS_OUTER_REC, LENS_REC_A);
+    Assert.assertEquals(new Outer(new Rec(5, "b")),
+        lens.overInt(x -> x + 4, new Outer(new Rec(1, "b"))));
+  }
+
+  @Test
+  public void setIntUnchangedKeepsSource() {
+    final Rec s = new Rec(3, "b");
+    Assert.assertSame(s, LENS_REC_A.setInt(3, s));
+  }
+}
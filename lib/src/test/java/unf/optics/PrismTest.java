@@ -11,6 +11,7 @@ import org.junit.Test;
 import unf.either.Either;
 import unf.either.Left;
 import unf.either.Right;
+import unf.function.Function1;
 import unf.maybe.Just;
 import unf.maybe.Maybe;
 import unf.maybe.Nothing;
@@ -56,6 +57,52 @@ public final class PrismTest {
     }
   };
 
+  private static final Prism<Maybe<Either<String, Integer>>, Maybe<Either<String, Integer>>, String, String>
+      PRISM_JUST_LEFT = PrismTest.<Either<String, Integer>>justPrism()
+      .focus(PRISM_LEFT);
+
+  private static final Prism<Object, Object, Integer, Integer> PRISM_INTEGER
+      = new Prism<>() {
+    @Override
+    public Either<Object, Integer> matching(Object source) {
+      return source instanceof Integer it ? new Right<>(it) : new Left<>(source);
+    }
+
+    @Override
+    public Maybe<Integer> preview(Object source) {
+      return source instanceof Integer it ? new Just<>(it) : new Nothing<>();
+    }
+
+    @Override
+    public Integer previewOrElse(Integer fallback, Object source) {
+      return source instanceof Integer it ? it : fallback;
+    }
+
+    @Override
+    public Object review(Integer value) {
+      return value;
+    }
+  };
+
+  private static <A> Prism<Maybe<A>, Maybe<A>, A, A> justPrism() {
+    return new Prism<>() {
+      @Override
+      public Either<Maybe<A>, A> matching(Maybe<A> source) {
+        return source.fold(Right::new, () -> new Left<>(source));
+      }
+
+      @Override
+      public Maybe<A> preview(Maybe<A> source) {
+        return source;
+      }
+
+      @Override
+      public Maybe<A> review(A value) {
+        return new Just<>(value);
+      }
+    };
+  }
+
   @Test
   public void maybeJustReviewJust() {
     final String s = "◕ ◡ ◕";
@@ -111,4 +158,101 @@ public final class PrismTest {
         PRISM_LEFT.preview(new Right<>(1))
     );
   }
+
+  @Test
+  public void overUnchanged() {
+    final Maybe<String> s = new Just<>("unf");
+    Assert.assertEquals(s, PRISM_JUST.over(Function1.identity(), s));
+  }
+
+  @Test
+  public void previewOrElse() {
+    Assert.assertEquals("a", PRISM_JUST.previewOrElse("b", new Just<>("a")));
+    Assert.assertEquals("b", PRISM_JUST.previewOrElse("b", new Nothing<>()));
+  }
+
+  @Test
+  public void composedPreview() {
+    Assert.assertEquals(
+        new Just<>("a"),
+        PRISM_JUST_LEFT.preview(new Just<>(new Left<>("a")))
+    );
+    Assert.assertEquals(
+        new Nothing<>(),
+        PRISM_JUST_LEFT.preview(new Just<>(new Right<>(1)))
+    );
+  }
+
+  @Test
+  public void composedPreviewOrElse() {
+    Assert.assertEquals(
+        "b",
+        PRISM_JUST_LEFT.previewOrElse("b", new Nothing<>())
+    );
+    Assert.assertEquals(
+        "b",
+        PRISM_JUST_LEFT.previewOrElse("b", new Just<>(new Right<>(1)))
+    );
+  }
+
+  @Test
+  public void composedMatching() {
+    Assert.assertEquals(
+        new Right<>("a"),
+        PRISM_JUST_LEFT.matching(new Just<>(new Left<>("a")))
+    );
+    Assert.assertEquals(
+        new Left<>(new Just<>(new Right<>(1))),
+        PRISM_JUST_LEFT.matching(new Just<>(new Right<>(1)))
+    );
+  }
+
+  @Test
+  public void composedSet() {
+    final Maybe<Either<String, Integer>> s = new Nothing<>();
+    Assert.assertEquals(
+        new Just<>(new Left<>("b")),
+        PRISM_JUST_LEFT.set("b", new Just<>(new Left<>("a")))
+    );
+    Assert.assertSame(s, PRISM_JUST_LEFT.set("b", s));
+  }
+
+  @Test
+  public void typedPreviewOrElseOverNoMatch() {
+    Assert.assertEquals("a", PRISM_INTEGER.over(it -> it + 1, "a"));
+    Assert.assertEquals(1000, PRISM_INTEGER.over(it -> it + 1, 999));
+  }
+
+  @Test
+  public void typedPreviewOrElseCountFoldMap() {
+    Assert.assertEquals(0, PRISM_INTEGER.count("a"));
+    Assert.assertEquals(
+        "",
+        PRISM_INTEGER.foldMap("", String::concat, String::valueOf, "a")
+    );
+  }
+
+  @Test
+  public void typedPreviewOrElseFocus() {
+    final Prism<Maybe<Object>, Maybe<Object>, Integer, Integer> composed
+        = PrismTest.<Object>justPrism().focus(PRISM_INTEGER);
+    Assert.assertEquals(new Nothing<>(), composed.preview(new Just<>("a")));
+    Assert.assertEquals(
+        new Left<>(new Just<>("a")),
+        composed.matching(new Just<>("a"))
+    );
+  }
+
+  @Test
+  public void typedPreviewOrElseFocusSet() {
+    final AffineTraversal<Maybe<Object>, Maybe<Object>, Object, Object> just
+        = PrismTest.justPrism();
+    final AffineTraversal<Maybe<Object>, Maybe<Object>, Integer, Integer> composed
+        = just.focus(PRISM_INTEGER);
+    Assert.assertEquals(new Just<>("a"), composed.set(1, new Just<>("a")));
+    Assert.assertEquals(
+        -1,
+        composed.previewOrElse(-1, new Just<>("a")).intValue()
+    );
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class RecordOpticsRuntimeTest {
+
+  private record Point(int x, double y, String label, List<String> tags) {
+  }
+
+  private record Segment(Point from) {
+  }
+
+  private static final Point POINT = new Point(1, 0.0, "p", List.of("a"));
+
+  @Test
+  public void view() {
+    final Lens<Point, Point, String, String> label
+        = RecordOpticsRuntime.lens(Point.class, "label");
+    Assert.assertEquals("p", label.view(POINT));
+  }
+
+  @Test
+  public void set() {
+    final Lens<Point, Point, String, String> label
+        = RecordOpticsRuntime.lens(Point.class, "label");
+    Assert.assertEquals(
+        new Point(1, 0.0, "q", List.of("a")),
+        label.set("q", POINT)
+    );
+  }
+
+  @Test
+  public void overPrimitive() {
+    final Lens<Point, Point, Integer, Integer> x
+        = RecordOpticsRuntime.lens(Point.class, "x", Integer.class);
+    Assert.assertEquals(
+        new Point(3, 0.0, "p", List.of("a")),
+        x.over(it -> it + 2, POINT)
+    );
+  }
+
+  @Test
+  public void unchangedKeepsSource() {
+    final Lens<Point, Point, Integer, Integer> x
+        = RecordOpticsRuntime.lens(Point.class, "x");
+    final Lens<Point, Point, List<String>, List<String>> tags
+        = RecordOpticsRuntime.lens(Point.class, "tags");
+    Assert.assertSame(POINT, x.over(it -> it * 1, POINT));
+    Assert.assertSame(POINT, tags.set(POINT.tags(), POINT));
+  }
+
+  @Test
+  public void setSignedZero() {
+    final Lens<Point, Point, Double, Double> y
+        = RecordOpticsRuntime.lens(Point.class, "y");
+    Assert.assertEquals(
+        new Point(1, -0.0, "p", List.of("a")),
+        y.set(-0.0, POINT)
+    );
+  }
+
+  @Test
+  public void cached() {
+    Assert.assertSame(
+        RecordOpticsRuntime.lens(Point.class, "label"),
+        RecordOpticsRuntime.lens(Point.class, "label")
+    );
+  }
+
+  @Test
+  public void unknownComponent() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> RecordOpticsRuntime.lens(Point.class, "z"));
+  }
+
+  @Test
+  public void wrongComponentType() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> RecordOpticsRuntime.lens(Point.class, "x", Long.class));
+  }
+
+  @Test
+  public void focus() {
+    final Lens<Segment, Segment, Point, Point> from
+        = RecordOpticsRuntime.lens(Segment.class, "from");
+    final Lens<Point, Point, String, String> label
+        = RecordOpticsRuntime.lens(Point.class, "label");
+    Assert.assertEquals(
+        new Segment(new Point(1, 0.0, "q", List.of("a"))),
+        from.focus(label).set("q", new Segment(POINT))
+    );
+  }
+}
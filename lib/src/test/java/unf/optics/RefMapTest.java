@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import unf.maybe.Just;
+import unf.maybe.Nothing;
+
+public final class RefMapTest {
+
+  @Test
+  public void getAbsent() {
+    Assert.assertEquals(new Nothing<>(), new RefMap<String, Integer>().get("a"));
+  }
+
+  @Test
+  public void updateFromInitial() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    Assert.assertEquals(Integer.valueOf(1), map.update("a", 0, x -> x + 1));
+    Assert.assertEquals(new Just<>(1), map.get("a"));
+  }
+
+  @Test
+  public void atSharesState() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    final Ref<Integer> ref = map.at("a", 0);
+    ref.set(2);
+    Assert.assertSame(ref, map.at("a", 0));
+    Assert.assertEquals(new Just<>(2), map.get("a"));
+  }
+
+  @Test
+  public void remove() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    map.update("a", 0, x -> x + 1);
+    Assert.assertEquals(new Just<>(1), map.remove("a"));
+    Assert.assertEquals(0, map.size());
+  }
+
+  @Test
+  public void updateAfterRemove() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    final Ref<Integer> ref = map.at("a", 0);
+    ref.update(x -> x + 1);
+    map.remove("a");
+    Assert.assertEquals(Integer.valueOf(1), ref.update(x -> x + 1));
+    Assert.assertEquals(new Just<>(1), map.get("a"));
+  }
+
+  @Test
+  public void getAfterRemove() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    final Ref<Integer> ref = map.at("a", 0);
+    ref.set(2);
+    map.remove("a");
+    Assert.assertEquals(Integer.valueOf(0), ref.get());
+    Assert.assertEquals(0, map.size());
+  }
+
+  @Test
+  public void concurrentRemoveLosesNoUpdate() {
+    final RefMap<String, Integer> map = new RefMap<>();
+    final AtomicInteger removed = new AtomicInteger();
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 4; i++) {
+        executor.execute(() -> {
+          final Ref<Integer> ref = map.at("a", 0);
+          for (int j = 0; j < 10_000; j++) {
+            ref.update(x -> x + 1);
+          }
+        });
+        executor.execute(() -> {
+          for (int j = 0; j < 1_000; j++) {
+            map.remove("a").fold(removed::addAndGet, () -> 0);
+          }
+        });
+      }
+    }
+    final int left = map.get("a").orElseGet(() -> 0);
+    Assert.assertEquals(40_000, removed.get() + left);
+  }
+
+  @Test
+  public void concurrentUpdates() {
+    final RefMap<Integer, Integer> map = new RefMap<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 8; i++) {
+        executor.execute(() -> {
+          for (int j = 0; j < 1_000; j++) {
+            map.update(j % 4, 0, x -> x + 1);
+          }
+        });
+      }
+    }
+    Assert.assertEquals(Map.of(0, 2_000, 1, 2_000, 2, 2_000, 3, 2_000),
+        map.snapshot());
+  }
+}
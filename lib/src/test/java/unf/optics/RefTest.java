@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.optics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Assert;
+import org.junit.Test;
+import unf.function.Function1;
+
+public final class RefTest {
+
+  private static final Lens<State, State, Integer, Integer> LENS_HITS = new Lens<>() {
+    @Override
+    public State over(Function1<Integer, Integer> lift, State source) {
+      return new State(lift.apply(source.hits), source.name);
+    }
+
+    @Override
+    public Integer view(State source) {
+      return source.hits;
+    }
+  };
+
+  private static final Lens<State, State, String, String> LENS_NAME = new Lens<>() {
+    @Override
+    public State over(Function1<String, String> lift, State source) {
+      return new State(source.hits, lift.apply(source.name));
+    }
+
+    @Override
+    public String view(State source) {
+      return source.name;
+    }
+  };
+
+  private record State(int hits, String name) {
+  }
+
+  @Test
+  public void getAndSet() {
+    final Ref<State> ref = Ref.of(new State(0, "a"));
+    ref.set(new State(1, "b"));
+    Assert.assertEquals(new State(1, "b"), ref.get());
+    Assert.assertEquals("b", ref.get(LENS_NAME));
+  }
+
+  @Test
+  public void updateThroughLens() {
+    final Ref<State> ref = Ref.of(new State(0, "a"));
+    Assert.assertEquals(new State(2, "a"), ref.update(LENS_HITS, x -> x + 2));
+    Assert.assertEquals(new State(2, "b"), ref.set(LENS_NAME, "b"));
+  }
+
+  @Test
+  public void unchangedUpdateKeepsState() {
+    final State s = new State(0, "a");
+    final Ref<State> ref = Ref.of(s);
+    ref.update(x -> x);
+    Assert.assertSame(s, ref.get());
+  }
+
+  @Test
+  public void compareAndSet() {
+    final State s = new State(0, "a");
+    final Ref<State> ref = Ref.of(s);
+    Assert.assertFalse(ref.compareAndSet(new State(0, "a"), new State(1, "a")));
+    Assert.assertTrue(ref.compareAndSet(s, new State(1, "a")));
+  }
+
+  @Test
+  public void focus() {
+    final Ref<State> ref = Ref.of(new State(0, "a"));
+    final Ref<String> name = ref.focus(LENS_NAME);
+    Assert.assertEquals("ab", name.update(x -> x + "b"));
+    Assert.assertEquals(new State(0, "ab"), ref.get());
+  }
+
+  @Test
+  public void focusCompareAndSet() {
+    final Ref<State> ref = Ref.of(new State(0, "a"));
+    final Ref<String> name = ref.focus(LENS_NAME);
+    Assert.assertFalse(name.compareAndSet("b", "c"));
+    Assert.assertTrue(name.compareAndSet(ref.get().name(), "c"));
+  }
+
+  @Test
+  public void focusCompareAndSetBoxed() {
+    final Ref<State> ref = Ref.of(new State(1_000, "a"));
+    final Ref<Integer> hits = ref.focus(LENS_HITS);
+    Assert.assertTrue(hits.compareAndSet(1_000, 1_001));
+    Assert.assertEquals(new State(1_001, "a"), ref.get());
+  }
+
+  @Test
+  public void concurrentUpdates() {
+    final Ref<State> ref = Ref.of(new State(0, "a"));
+    final Ref<Integer> hits = ref.focus(LENS_HITS);
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 8; i++) {
+        executor.execute(() -> {
+          for (int j = 0; j < 1_000; j++) {
+            hits.update(x -> x + 1);
+          }
+        });
+      }
+    }
+    Assert.assertEquals(new State(8_000, "a"), ref.get());
+  }
+}
@@ -44,6 +44,15 @@ final class ComponentLensesGenerator extends OpticsGenerator {
     typesSet.add(types.erasure(targetRecordType).toString());
     for (TypeMirror componentType : components.values()) {
       addTypesToSet(componentType, typesSet);
+      // Primitive specialized lenses
+      final String prefix = Utils.primitivePrefix(componentType);
+      if (prefix != null) {
+        typesSet.add(Utils.OPTICS_PACKAGE_NAME + "." + prefix + "Lens");
+        typesSet.add(Utils.FUNCTION_PACKAGE_NAME
+            + "."
+            + prefix
+            + "UnaryFunction1");
+      }
     }
     return Collections.unmodifiableSet(typesSet);
   }
@@ -52,19 +61,94 @@ final class ComponentLensesGenerator extends OpticsGenerator {
    * Generate a lens for a given record component.
    */
   private String lensForComponent(String targetName, TypeMirror targetType) {
+    final String prefix = Utils.primitivePrefix(targetType);
+    return prefix == null
+        ? boxedLensForComponent(targetName, targetType)
+        : primitiveLensForComponent(targetName, targetType, prefix);
+  }
+
+  /**
+   * Generate a primitive specialized lens (e.g. {@code IntLens}) for a given
+   * record component of primitive type.
+   */
+  private String primitiveLensForComponent(
+      String targetName,
+      TypeMirror targetType,
+      String prefix
+  ) {
+    final String sourceTypeStr = Utils.formatType(types, targetRecordType);
+    final String newInstance = Utils.newRecordInstanceExpr(
+        sourceTypeStr,
+        targetName,
+        allComponentNames,
+        accessor -> "value"
+    );
+    // Unlike ==, Double.compare tells 0.0 from -0.0 apart
+    final String sameValue = "Double".equals(prefix)
+        ? "Double.compare(value, source.%s()) == 0".formatted(targetName)
+        : "value == source.%s()".formatted(targetName);
+    return String.format("""
+              public static final %2$sLens<%1$s> %4$s = new %2$sLens<>() {
+                @Override
+                public %1$s over%2$s(%2$sUnaryFunction1 lift, %1$s source) {
+                  return set%2$s(lift.applyAs%2$s(source.%4$s()), source);
+                }
+
+                @Override
+                public %1$s set%2$s(%3$s value, %1$s source) {
+                  return %6$s
+                      ? source
+                      : %5$s;
+                }
+
+                @Override
+                public %3$s view%2$s(%1$s source) {
+                  return source.%4$s();
+                }
+              };
+            """, // Lower indentation on purpose!
+        sourceTypeStr,         // S
+        prefix,                // 2: primitive prefix
+        targetType.toString(), // 3: primitive type
+        targetName,            // 4: target component name
+        newInstance,           // 5: new instance with the given value
+        sameValue              // 6: whether the value is unchanged
+    );
+  }
+
+  /**
+   * Generate a lens for a given record component.
+   */
+  private String boxedLensForComponent(
+      String targetName,
+      TypeMirror targetType
+  ) {
     final String sourceTypeStr = Utils.formatType(types, targetRecordType);
     final String componentTypeStr = Utils.formatType(types, targetType);
-    final String overImpl = Utils.newRecordInstanceExpr(
+    final String newInstance = Utils.newRecordInstanceExpr(
         sourceTypeStr,
         targetName,
         allComponentNames,
-        accessor -> "lift.apply(" + accessor + ")"
+        accessor -> "value"
     );
+    // Unlike ==, compare tells 0.0 from -0.0 apart
+    final String sameValue = switch (targetType.getKind()) {
+      case FLOAT -> "Float.compare(value, source.%s()) == 0";
+      case DOUBLE -> "Double.compare(value, source.%s()) == 0";
+      default -> "value == source.%s()";
+    };
     return String.format("""
               public static final Lens<%1$s, %1$s, %2$s, %2$s> %3$s = new Lens<>() {
                 @Override
                 public %1$s over(Function1<%2$s, %2$s> lift, %1$s source) {
-                  return %4$s;
+                  return set(lift.apply(source.%3$s()), source);
+                }
+
+                @Override
+                public %1$s set(%2$s value, %1$s source) {
+                  return %5$s
+                      ? source
+                      : %4$s;
                 }
 
                 @Override
@@ -76,7 +160,8 @@ final class ComponentLensesGenerator extends OpticsGenerator {
         sourceTypeStr,    // S, T
         componentTypeStr, // A, B
         targetName,       // 3: target component name
-        overImpl          // 4: new instance in over
+        newInstance,      // 4: new instance with the given value
+        sameValue.formatted(targetName) // 5: whether the value is unchanged
     );
   }
 }
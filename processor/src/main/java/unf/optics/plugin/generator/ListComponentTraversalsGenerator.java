@@ -1,11 +1,15 @@
 package unf.optics.plugin.generator;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.SequencedMap;
 import java.util.SequencedSet;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.lang.model.type.DeclaredType;
@@ -19,10 +23,12 @@ final class ListComponentTraversalsGenerator extends OpticsGenerator {
           return new Lens<>() {
             @Override
             public List<T> over(Function1<T, T> lift, List<T> source) {
+              final T value = lift.apply(source.get(idx));
+              if (value == source.get(idx)) {
+                return source;
+              }
               return IntStream.range(0, source.size())
-                .mapToObj(i -> i == idx
-                    ? lift.apply(source.get(i))
-                    : source.get(i))
+                .mapToObj(i -> i == idx ? value : source.get(i))
                  .toList();
             }
 
@@ -34,6 +40,12 @@ final class ListComponentTraversalsGenerator extends OpticsGenerator {
         }
       """; // Lower indentation on purpose!
 
+  private static final List<String> PRIMITIVE_PREFIXES = List.of(
+      "Int",
+      "Long",
+      "Double"
+  );
+
   public ListComponentTraversalsGenerator(
       Types types,
       TypeMirror targetRecordType,
@@ -67,11 +79,26 @@ final class ListComponentTraversalsGenerator extends OpticsGenerator {
     // unf types
     typesSet.add(Utils.FUNCTION_1_CLASS_NAME);
     typesSet.add(Utils.FUNCTION_2_CLASS_NAME);
+    typesSet.add(Utils.JUST_CLASS_NAME);
     typesSet.add(Utils.LENS_CLASS_NAME);
+    typesSet.add(Utils.MAYBE_CLASS_NAME);
     typesSet.add(Utils.TRAVERSAL_CLASS_NAME);
+    for (final String prefix : PRIMITIVE_PREFIXES) {
+      typesSet.add(Utils.FUNCTION_PACKAGE_NAME
+          + "."
+          + prefix
+          + "BinaryFunction2");
+      typesSet.add(Utils.FUNCTION_PACKAGE_NAME
+          + ".To"
+          + prefix
+          + "Function1");
+    }
     // Java types
+    typesSet.add(ArrayList.class.getName());
+    typesSet.add(Collections.class.getName());
     typesSet.add(IntStream.class.getName());
     typesSet.add(List.class.getName());
+    typesSet.add(Spliterator.class.getName());
     // Record types
     typesSet.add(types.erasure(targetRecordType).toString());
     for (final TypeMirror componentType : components.values()) {
@@ -95,17 +122,29 @@ final class ListComponentTraversalsGenerator extends OpticsGenerator {
         sourceTypeStr,
         targetName,
         allComponentNames,
-        ignored -> "newValue"
+        ignored -> "Collections.unmodifiableList(newValue)"
     );
     return String.format("""
               public static final Traversal<%1$s, %1$s, Lens<%1$s, %1$s, %2$s, %2$s>, %2$s> %3$sElements = new Traversal<>() {
                 @Override
                 public %1$s over(Function1<Lens<%1$s, %1$s, %2$s, %2$s>, %2$s> lift,
                                  %1$s source) {
-                  final List<%2$s> newValue = IntStream.range(0, source.%3$s().size())
-                      .mapToObj(i -> lift.apply(%3$s.focus(lensAtIndex(i))))
-                      .toList();
-                  return %4$s;
+                  final List<%2$s> current = source.%3$s();
+                  final int n = current.size();
+                  // Copied on the first element that changes
+                  List<%2$s> newValue = null;
+                  for (int i = 0; i < n; i++) {
+                    final %2$s value = lift.apply(%3$s.focus(lensAtIndex(i)));
+                    if (newValue == null && value != current.get(i)) {
+                      newValue = new ArrayList<>(current);
+                    }
+                    if (newValue != null) {
+                      newValue.set(i, value);
+                    }
+                  }
+                  return newValue == null
+                      ? source
+                      : %4$s;
                 }
 
                 @Override
@@ -124,12 +163,87 @@ final class ListComponentTraversalsGenerator extends OpticsGenerator {
                   }
                   return result;
                 }
-              };
+
+                @Override
+                public Maybe<Lens<%1$s, %1$s, %2$s, %2$s>> find(
+                    Function1<Lens<%1$s, %1$s, %2$s, %2$s>, Boolean> predicate,
+                    %1$s source) {
+                  final int n = source.%3$s().size();
+                  for (int i = 0; i < n; i++) {
+                    final Lens<%1$s, %1$s, %2$s, %2$s> lens = %3$s.focus(lensAtIndex(i));
+                    if (predicate.apply(lens)) {
+                      return new Just<>(lens);
+                    }
+                  }
+                  return Maybe.nothing();
+                }
+
+                @Override
+                public int count(%1$s source) {
+                  return source.%3$s().size();
+                }
+
+                @Override
+                public boolean isEmpty(%1$s source) {
+                  return source.%3$s().isEmpty();
+                }
+
+                @Override
+                public Spliterator<Lens<%1$s, %1$s, %2$s, %2$s>> spliterator(%1$s source) {
+                  return IntStream.range(0, source.%3$s().size())
+                      .mapToObj(i -> %3$s.focus(lensAtIndex(i)))
+                      .spliterator();
+                }
+            %5$s  };
             """, // Lower indentation on purpose!
         sourceTypeStr,    // S, T
         componentElementTypeStr, // A, B
         targetName,       // 3: target component name
-        overImpl          // 4: new instance in over
+        overImpl,         // 4: new instance in over
+        PRIMITIVE_PREFIXES.stream()
+            .map(prefix -> primitiveFoldMapForComponent(
+                sourceTypeStr,
+                componentElementTypeStr,
+                targetName,
+                prefix
+            ))
+            .collect(Collectors.joining()) // 5: primitive foldMaps
+    );
+  }
+
+  /**
+   * Generate a primitive specialized foldMap (e.g. {@code foldMapLong}) for
+   * the traversal of a record component of type list.
+   */
+  private static String primitiveFoldMapForComponent(
+      String sourceTypeStr,
+      String componentElementTypeStr,
+      String targetName,
+      String prefix
+  ) {
+    return String.format("""
+
+                @Override
+                public %4$s foldMap%5$s(%4$s zero,
+                                     %5$sBinaryFunction2 reducer,
+                                     To%5$sFunction1<Lens<%1$s, %1$s, %2$s, %2$s>> map,
+                                     %1$s source) {
+                  %4$s result = zero;
+                  final int n = source.%3$s().size();
+                  for (int i = 0; i < n; i++) {
+                    result = reducer.applyAs%5$s(
+                      result,
+                      map.applyAs%5$s(%3$s.focus(lensAtIndex(i)))
+                    );
+                  }
+                  return result;
+                }
+            """, // Lower indentation on purpose!
+        sourceTypeStr,           // S, T
+        componentElementTypeStr, // A, B
+        targetName,              // 3: target component name
+        prefix.toLowerCase(Locale.ROOT), // 4: primitive type
+        prefix                   // 5: primitive prefix
     );
   }
 
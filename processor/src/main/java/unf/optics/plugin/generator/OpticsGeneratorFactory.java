@@ -28,7 +28,8 @@ public final class OpticsGeneratorFactory {
 
     return Stream.of(
             componentLenses(types, recordTypeMirror, allComponents),
-            listTraversals(elements, types, recordTypeMirror, allComponents)
+            listTraversals(elements, types, recordTypeMirror, allComponents),
+            recordUpdate(types, recordTypeMirror, allComponents)
         )
         .filter(OpticsGenerator::isProducingSomething)
         .collect(Collectors.toUnmodifiableSet());
@@ -47,6 +48,18 @@ public final class OpticsGeneratorFactory {
     );
   }
 
+  private static OpticsGenerator recordUpdate(
+      Types types,
+      TypeMirror recordTypeMirror,
+      SequencedMap<String, TypeMirror> allComponents
+  ) {
+    return new RecordUpdateGenerator(
+        types,
+        recordTypeMirror,
+        allComponents
+    );
+  }
+
   private static OpticsGenerator listTraversals(
       Elements elements,
       Types types,
@@ -0,0 +1,149 @@
+package unf.optics.plugin.generator;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+final class RecordUpdateGenerator extends OpticsGenerator {
+
+  public RecordUpdateGenerator(
+      Types types,
+      TypeMirror targetRecordType,
+      SequencedMap<String, TypeMirror> allComponents
+  ) {
+    super(
+        types,
+        targetRecordType,
+        allComponents,
+        allComponents.sequencedKeySet()
+    );
+  }
+
+  /**
+   * Generate a {@code with} method that returns a builder for updating
+   * multiple components of a record with a single invocation of its canonical
+   * constructor.
+   */
+  @Override
+  public List<String> generate() {
+    final String sourceTypeStr = Utils.formatType(types, targetRecordType);
+    final String updateTypeStr = updateTypeName();
+    final String fields = components.sequencedEntrySet()
+        .stream()
+        .map(e -> "    private %s %s;\n".formatted(
+            componentTypeStr(e.getValue()),
+            e.getKey()
+        ))
+        .collect(Collectors.joining());
+    final String fieldsInit = allComponentNames.stream()
+        .map(name -> "      this.%1$s = source.%1$s();\n".formatted(name))
+        .collect(Collectors.joining());
+    final String setters = components.sequencedEntrySet()
+        .stream()
+        .map(e -> setterForComponent(updateTypeStr, e.getKey(), e.getValue()))
+        .collect(Collectors.joining());
+    final String unchanged = components.sequencedEntrySet()
+        .stream()
+        .map(this::isUnchangedExpr)
+        .collect(Collectors.joining("\n            && "));
+    final String args = String.join(", ", allComponentNames);
+    return List.of(String.format("""
+              public static %7$s with(%1$s source) {
+                return new %7$s(source);
+              }
+
+              public static final class %7$s {
+
+                private final %1$s $source;
+            %2$s
+                private %7$s(%1$s source) {
+                  this.$source = source;
+            %3$s    }
+            %4$s
+                public %1$s build() {
+                  return %5$s
+                      ? $source
+                      : new %1$s(%6$s);
+                }
+              }
+            """, // Lower indentation on purpose!
+        sourceTypeStr, // 1: S
+        fields,        // 2: component fields
+        fieldsInit,    // 3: component fields initialization
+        setters,       // 4: component setters
+        unchanged,     // 5: whether no component changed
+        args,          // 6: canonical constructor arguments
+        updateTypeStr  // 7: builder class name
+    ));
+  }
+
+  @Override
+  public Set<String> usedTypes() {
+    final Set<String> typesSet = new HashSet<>();
+    // Record types
+    typesSet.add(types.erasure(targetRecordType).toString());
+    for (final TypeMirror componentType : components.values()) {
+      addTypesToSet(componentType, typesSet);
+    }
+    return Collections.unmodifiableSet(typesSet);
+  }
+
+  /**
+   * Generate the setter of the builder for a given record component.
+   */
+  private String setterForComponent(
+      String updateTypeStr,
+      String name,
+      TypeMirror type
+  ) {
+    return String.format("""
+
+                public %3$s %1$s(%2$s value) {
+                  this.%1$s = value;
+                  return this;
+                }
+            """, // Lower indentation on purpose!
+        name,                  // 1: component name
+        componentTypeStr(type), // 2: component type
+        updateTypeStr           // 3: builder class name
+    );
+  }
+
+  /**
+   * Generate an expression that determines whether the value of a record
+   * component in the builder is the same as in the original record.
+   */
+  private String isUnchangedExpr(Map.Entry<String, TypeMirror> component) {
+    final String name = component.getKey();
+    final TypeKind kind = component.getValue().getKind();
+    // Unlike ==, compare tells 0.0 from -0.0 apart
+    if (kind == TypeKind.DOUBLE) {
+      return "Double.compare(%1$s, $source.%1$s()) == 0".formatted(name);
+    } else if (kind == TypeKind.FLOAT) {
+      return "Float.compare(%1$s, $source.%1$s()) == 0".formatted(name);
+    } else {
+      return "%1$s == $source.%1$s()".formatted(name);
+    }
+  }
+
+  /**
+   * Name of the builder class, derived from the simple name of the record so
+   * that it does not clash with a type of the same name used by the record.
+   */
+  private String updateTypeName() {
+    return types.asElement(targetRecordType).getSimpleName() + "Update";
+  }
+
+  private String componentTypeStr(TypeMirror type) {
+    return type.getKind().isPrimitive()
+        ? type.toString()
+        : Utils.formatType(types, type);
+  }
+}
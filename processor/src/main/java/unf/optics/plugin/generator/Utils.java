@@ -15,8 +15,16 @@ final class Utils {
 
   public static final String FUNCTION_2_CLASS_NAME = "unf.function.Function2";
 
+  public static final String JUST_CLASS_NAME = "unf.maybe.Just";
+
   public static final String LENS_CLASS_NAME = "unf.optics.Lens";
 
+  public static final String MAYBE_CLASS_NAME = "unf.maybe.Maybe";
+
+  public static final String OPTICS_PACKAGE_NAME = "unf.optics";
+
+  public static final String FUNCTION_PACKAGE_NAME = "unf.function";
+
   public static final String TRAVERSAL_CLASS_NAME = "unf.optics.Traversal";
 
   private Utils() {
@@ -54,6 +62,20 @@ final class Utils {
     };
   }
 
+  /**
+   * Return the prefix of the name of the primitive specialized optics and
+   * functions for the given type (e.g. {@code Int} for {@code IntLens}), or
+   * {@code null} if there is no specialization for the given type.
+   */
+  public static String primitivePrefix(TypeMirror type) {
+    return switch (type.getKind()) {
+      case INT -> "Int";
+      case LONG -> "Long";
+      case DOUBLE -> "Double";
+      default -> null;
+    };
+  }
+
   /**
    * Create a new record instance expr that copies the values of all components
    * except for one (the {@code targetComponent}), which is transformed using
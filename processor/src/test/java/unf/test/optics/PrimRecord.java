@@ -0,0 +1,13 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.test.optics;
+
+import unf.optics.RecordOptics;
+
+@RecordOptics
+record PrimRecord(long l, double d, boolean flag) {
+}
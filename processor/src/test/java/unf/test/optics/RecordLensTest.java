@@ -8,8 +8,12 @@ package unf.test.optics;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 import org.junit.Assert;
 import org.junit.Test;
+import unf.function.Monoid;
+import unf.optics.IntLens;
 import unf.optics.Lens;
 import unf.optics.Traversal;
 
@@ -33,6 +37,21 @@ public final class RecordLensTest {
     );
   }
 
+  @Test
+  public void compiledLens() {
+    final Lens<PkgRecord, PkgRecord, Integer, Integer> lens = PkgRecordOptics.pr
+        .focus(PubRecordOptics.a);
+    final PkgRecord rec = new PkgRecord(new PubRecord(0,
+        0.1,
+        () -> Annotation.class));
+
+    Assert.assertEquals(lens.set(4, rec), lens.compile().set(4, rec));
+    Assert.assertEquals(
+        lens.over(x -> x - 1, rec),
+        lens.compile().over(x -> x - 1, rec)
+    );
+  }
+
   @Test
   public void parametricType() {
     final Lens<PubRecord.InnerRecord, PubRecord.InnerRecord, List<String>, List<String>>
@@ -67,4 +86,183 @@ public final class RecordLensTest {
         )
     );
   }
+
+  @Test
+  public void primitiveLens() {
+    final PubRecord rec = new PubRecord(1, 0.1, () -> Annotation.class);
+
+    Assert.assertEquals(1, PubRecordOptics.a.viewInt(rec));
+    Assert.assertEquals(
+        new PubRecord(3, rec.b(), rec.an()),
+        PubRecordOptics.a.overInt(x -> x + 2, rec)
+    );
+  }
+
+  @Test
+  public void primitiveLongDoubleLens() {
+    final PrimRecord rec = new PrimRecord(4L, 0.5, true);
+
+    Assert.assertEquals(
+        new PrimRecord(8L, 0.5, true),
+        PrimRecordOptics.l.overLong(x -> x * 2, rec)
+    );
+    Assert.assertEquals(
+        new PrimRecord(4L, 1.5, true),
+        PrimRecordOptics.d.setDouble(1.5, rec)
+    );
+  }
+
+  @Test
+  public void primitiveLensComposition() {
+    final PkgRecord rec = new PkgRecord(new PubRecord(
+        5,
+        0.1,
+        () -> Annotation.class
+    ));
+
+    Assert.assertEquals(
+        5,
+        IntLens.focus(PkgRecordOptics.pr, PubRecordOptics.a).viewInt(rec)
+    );
+  }
+
+  @Test
+  public void overUnchangedKeepsSource() {
+    final PkgRecord rec = new PkgRecord(new PubRecord(0,
+        0.1,
+        () -> Annotation.class));
+    Assert.assertSame(rec, PkgRecordOptics.pr.over(x -> x, rec));
+  }
+
+  @Test
+  public void setUnchangedKeepsSource() {
+    final PrimRecord rec = new PrimRecord(1L, -0.0, true);
+    Assert.assertSame(rec, PrimRecordOptics.l.setLong(1L, rec));
+    Assert.assertNotSame(rec, PrimRecordOptics.d.setDouble(0.0, rec));
+  }
+
+  @Test
+  public void elementsUnchangedKeepsSource() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("o.O", "^.^"));
+    Assert.assertSame(rec,
+        PubRecord$InnerRecordOptics.wordsElements.over(l -> l.view(rec), rec));
+  }
+
+  @Test
+  public void elementLensUnchangedKeepsSource() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("o.O", "^.^"));
+    final boolean allSame = PubRecord$InnerRecordOptics.wordsElements.foldMap(
+        true,
+        (a, b) -> a && b,
+        l -> l.over(x -> x, rec) == rec,
+        rec
+    );
+    Assert.assertTrue(allSame);
+  }
+
+  @Test
+  public void elementsAnyStopsEarly() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("a", "bb", "ccc", "dddd"));
+    final int[] visited = {0};
+    final boolean found = PubRecord$InnerRecordOptics.wordsElements.any(l -> {
+      visited[0]++;
+      return l.view(rec).length() == 2;
+    }, rec);
+    Assert.assertTrue(found);
+    Assert.assertEquals(2, visited[0]);
+  }
+
+  @Test
+  public void elementsCount() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("a", "bb"));
+    Assert.assertEquals(2, PubRecord$InnerRecordOptics.wordsElements.count(rec));
+    Assert.assertFalse(PubRecord$InnerRecordOptics.wordsElements.isEmpty(rec));
+  }
+
+  @Test
+  public void elementsStream() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("a", "bb", "ccc", "dddd"));
+    final Spliterator<Lens<PubRecord.InnerRecord, PubRecord.InnerRecord, String, String>>
+        spliterator = PubRecord$InnerRecordOptics.wordsElements.spliterator(rec);
+    Assert.assertEquals(4L, spliterator.getExactSizeIfKnown());
+    Assert.assertEquals(
+        rec.words(),
+        PubRecord$InnerRecordOptics.wordsElements.stream(rec)
+            .parallel()
+            .map(l -> l.view(rec))
+            .toList()
+    );
+  }
+
+  @Test
+  public void elementsFoldMapParallel() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        IntStream.range(0, 10_000).mapToObj(String::valueOf).toList());
+    final Monoid<Integer> sum = Monoid.of(0, Integer::sum);
+    Assert.assertEquals(
+        PubRecord$InnerRecordOptics.wordsElements.foldMap(sum,
+            l -> l.view(rec).length(), rec),
+        PubRecord$InnerRecordOptics.wordsElements.foldMapParallel(sum,
+            l -> l.view(rec).length(), rec, 64)
+    );
+  }
+
+  @Test
+  public void elementsSum() {
+    final PubRecord.InnerRecord rec = new PubRecord.InnerRecord(
+        List.of("a", "bb", "ccc"));
+    Assert.assertEquals(6L, PubRecord$InnerRecordOptics.wordsElements
+        .sumLong(l -> l.view(rec).length(), rec));
+  }
+
+  @Test
+  public void withUpdate() {
+    final PrimRecord rec = new PrimRecord(1L, 0.5, false);
+    Assert.assertEquals(
+        new PrimRecord(2L, 0.5, true),
+        PrimRecordOptics.with(rec).l(2L).flag(true).build()
+    );
+    Assert.assertSame(
+        rec,
+        PrimRecordOptics.with(rec).d(0.5).build()
+    );
+  }
+
+  @Test
+  public void withUpdateSignedZero() {
+    final PrimRecord rec = new PrimRecord(0L, 0.0, false);
+    Assert.assertEquals(
+        new PrimRecord(0L, -0.0, false),
+        PrimRecordOptics.with(rec).d(-0.0).build()
+    );
+  }
+
+  @Test
+  public void floatSignedZero() {
+    final FloatRecord rec = new FloatRecord(0.0f, "a");
+    Assert.assertEquals(
+        new FloatRecord(-0.0f, "a"),
+        FloatRecordOptics.f.set(-0.0f, rec)
+    );
+  }
+
+  @Test
+  public void floatUnchangedKeepsSource() {
+    final FloatRecord rec = new FloatRecord(0.5f, "a");
+    Assert.assertSame(rec, FloatRecordOptics.f.set(0.5f, rec));
+  }
+
+  @Test
+  public void withUpdateComponentNamedUpdate() {
+    final Versioned rec = new Versioned(new Update(1), "a");
+    Assert.assertEquals(
+        new Versioned(new Update(2), "b"),
+        VersionedOptics.with(rec).update(new Update(2)).s("b").build()
+    );
+  }
 }
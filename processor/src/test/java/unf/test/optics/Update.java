@@ -0,0 +1,10 @@
+/*
+ * SPDX-FileCopyrightText: 2025 2bllw8
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package unf.test.optics;
+
+record Update(int version) {
+}